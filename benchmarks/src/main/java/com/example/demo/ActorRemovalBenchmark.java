@@ -0,0 +1,73 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link LevelParent#removeDestroyedActors} on a store in which every other enemy is destroyed.
+ * <p>
+ * Each invocation empties the working store and refills it from a fixed template before sweeping
+ * it, so the result includes moving {@code entityCount} actors out of and back into the store
+ * alongside the sweep itself. Actors keep their destroyed flag while out of the store.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorRemovalBenchmark {
+
+    /** The number of enemies in the store before the sweep. */
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    private BenchmarkLevel level;
+    private List<ActiveActorDestructible> template;
+    private EntityStore actors;
+
+    /**
+     * Builds the template list, destroying every other enemy.
+     */
+    @Setup
+    public void setUp() {
+        level = new BenchmarkLevel(0);
+        template = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            EnemyPlane enemy = level.createScatteredEnemy();
+            if (i % 2 == 0) {
+                enemy.destroy();
+            }
+            template.add(enemy);
+        }
+        actors = new EntityStore(false);
+    }
+
+    /**
+     * Refills the store and removes its destroyed actors.
+     *
+     * @return the number of surviving actors
+     */
+    @Benchmark
+    public int removeDestroyedActors() {
+        actors.clear();
+        for (int i = 0; i < entityCount; i++) {
+            actors.add(template.get(i));
+        }
+        level.removeDestroyedActors(actors);
+        return actors.size();
+    }
+}
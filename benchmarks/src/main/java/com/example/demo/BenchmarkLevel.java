@@ -0,0 +1,89 @@
+package com.example.demo;
+
+/**
+ * The {@code BenchmarkLevel} class is a headless level that holds a steady number of enemies.
+ * <p>
+ * Every tick it tops the enemy count back up to its target, scattering new enemies across the
+ * whole playfield rather than the right-hand edge, so a full {@link #updateScene()} always works
+ * on roughly the requested number of entities. The player cannot run out of health and the level
+ * never ends, so a benchmark can tick it indefinitely. The level uses a fixed seed so every fork
+ * starts from the same layout.
+ * </p>
+ */
+public class BenchmarkLevel extends LevelParent {
+
+    /** Width of the playfield used by the benchmarks, matching the game window. */
+    public static final double SCREEN_WIDTH = 1300;
+
+    /** Height of the playfield used by the benchmarks, matching the game window. */
+    public static final double SCREEN_HEIGHT = 750;
+
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+    private static final long SEED = 42;
+
+    private final int targetEnemyCount;
+
+    /**
+     * Constructs a {@code BenchmarkLevel} that keeps the given number of enemies in play.
+     *
+     * @param targetEnemyCount the number of enemies to maintain
+     */
+    public BenchmarkLevel(int targetEnemyCount) {
+        super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, Integer.MAX_VALUE, SEED);
+        this.targetEnemyCount = targetEnemyCount;
+    }
+
+    /**
+     * Creates an enemy plane at a random position on the playfield, without adding it to the level.
+     *
+     * @return the new enemy
+     */
+    public EnemyPlane createScatteredEnemy() {
+        return new EnemyPlane(getRandom().nextDouble() * SCREEN_WIDTH,
+                getRandom().nextDouble() * getEnemyMaximumYPosition(), getDifficultyFactor());
+    }
+
+    /**
+     * Creates a user projectile at a random position on the playfield, without adding it to the level.
+     *
+     * @return the new projectile
+     */
+    public UserProjectile createScatteredProjectile() {
+        return new UserProjectile(getRandom().nextDouble() * SCREEN_WIDTH, getRandom().nextDouble() * SCREEN_HEIGHT);
+    }
+
+    /**
+     * Adds the player's plane, which is the only friendly unit.
+     */
+    @Override
+    protected void initializeFriendlyUnits() {
+        addFriendlyUnit(getUser());
+    }
+
+    /**
+     * Does nothing: the benchmark level never ends.
+     */
+    @Override
+    protected void checkIfGameOver() {
+    }
+
+    /**
+     * Tops the enemy count back up to the target.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        for (int i = getCurrentNumberOfEnemies(); i < targetEnemyCount; i++) {
+            addEnemyUnit(createScatteredEnemy());
+        }
+    }
+
+    /**
+     * Never called, because the benchmark level is never displayed.
+     *
+     * @return {@code null}
+     */
+    @Override
+    protected LevelView instantiateLevelView() {
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@code BenchmarkMain} class runs the game-loop benchmarks with the GC profiler attached,
+ * so every result is reported together with its allocation rate.
+ * <p>
+ * Usage: {@code java -jar benchmarks.jar [JMH options]}. Any standard JMH option is accepted, for
+ * example a benchmark name pattern or {@code -p entityCount=1000} to run a single size.
+ * </p>
+ */
+public class BenchmarkMain {
+
+    /**
+     * Runs the selected benchmarks, or all of them if no pattern is given.
+     *
+     * @param args JMH command line options
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws RunnerException if a benchmark fails to run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Boss#getNextMove}, including the move-pattern shuffle made every few calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BossBenchmark {
+
+    private Boss boss;
+
+    /**
+     * Creates the boss.
+     */
+    @Setup
+    public void setUp() {
+        boss = new Boss();
+    }
+
+    /**
+     * Advances the boss's move pattern by one step.
+     *
+     * @return the velocity of the next move
+     */
+    @Benchmark
+    public int getNextMove() {
+        return boss.getNextMove();
+    }
+}
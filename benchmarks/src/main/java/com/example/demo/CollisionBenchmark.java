@@ -0,0 +1,67 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link LevelParent#handleCollisions} between user projectiles and enemy planes
+ * scattered across the playfield, with each {@link BroadphaseType}.
+ * <p>
+ * Actors keep their positions between invocations, so every call examines the same candidate
+ * pairs. Hit actors are destroyed on the first call and take further damage on later ones,
+ * which costs the same as the first hit.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollisionBenchmark {
+
+    /** The number of projectiles, and separately the number of enemies, in play. */
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    /** The broadphase, by its {@link BroadphaseType} property name. */
+    @Param({"spatial-hash", "sweep-and-prune", "nested-loop"})
+    public String broadphase;
+
+    private BenchmarkLevel level;
+    private EntityStore projectiles;
+    private EntityStore enemies;
+
+    /**
+     * Selects the broadphase and scatters the projectiles and enemies across the playfield.
+     */
+    @Setup
+    public void setUp() {
+        System.setProperty(BroadphaseType.PROPERTY, broadphase);
+        level = new BenchmarkLevel(0);
+        projectiles = new EntityStore(true);
+        enemies = new EntityStore(false);
+        for (int i = 0; i < entityCount; i++) {
+            projectiles.add(level.createScatteredProjectile());
+            enemies.add(level.createScatteredEnemy());
+        }
+    }
+
+    /**
+     * Runs the broadphase and narrow phase over every projectile and enemy.
+     */
+    @Benchmark
+    public void handleCollisions() {
+        level.handleCollisions(projectiles, enemies);
+    }
+}
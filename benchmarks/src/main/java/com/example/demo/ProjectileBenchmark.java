@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of producing a projectile, either by constructing a new one of each type
+ * or by recycling one through a {@link ProjectilePool}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectileBenchmark {
+
+    private static final double X_POSITION = 400;
+    private static final double Y_POSITION = 300;
+
+    private ProjectilePool<UserProjectile> pool;
+
+    /**
+     * Creates the pool and warms it with one idle projectile.
+     */
+    @Setup
+    public void setUp() {
+        pool = new ProjectilePool<>("Benchmark", () -> new UserProjectile(0, 0), 1);
+        pool.acquire(X_POSITION, Y_POSITION).returnToPool();
+    }
+
+    /**
+     * Constructs a new user projectile.
+     *
+     * @return the projectile
+     */
+    @Benchmark
+    public Projectile constructUserProjectile() {
+        return new UserProjectile(X_POSITION, Y_POSITION);
+    }
+
+    /**
+     * Constructs a new enemy projectile.
+     *
+     * @return the projectile
+     */
+    @Benchmark
+    public Projectile constructEnemyProjectile() {
+        return new EnemyProjectile(X_POSITION, Y_POSITION);
+    }
+
+    /**
+     * Constructs a new boss projectile.
+     *
+     * @return the projectile
+     */
+    @Benchmark
+    public Projectile constructBossProjectile() {
+        return new BossProjectile(Y_POSITION);
+    }
+
+    /**
+     * Acquires a user projectile from the pool and releases it again, as happens when a shot is
+     * fired and later destroyed.
+     *
+     * @return the projectile
+     */
+    @Benchmark
+    public Projectile acquireAndReleaseUserProjectile() {
+        UserProjectile projectile = pool.acquire(X_POSITION, Y_POSITION);
+        projectile.returnToPool();
+        return projectile;
+    }
+}
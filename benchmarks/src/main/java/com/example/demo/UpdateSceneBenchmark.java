@@ -0,0 +1,57 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one full {@link LevelParent#updateScene()} tick of a headless {@link BenchmarkLevel}
+ * holding a steady number of enemies, together with the projectiles they and the player fire.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateSceneBenchmark {
+
+    private static final int SETTLING_TICKS = 200;
+
+    /** The number of enemies kept in play. */
+    @Param({"10", "100", "1000", "10000"})
+    public int entityCount;
+
+    private BenchmarkLevel level;
+
+    /**
+     * Creates the level and runs it until the projectile count has settled.
+     */
+    @Setup
+    public void setUp() {
+        level = new BenchmarkLevel(entityCount);
+        for (int i = 0; i < SETTLING_TICKS; i++) {
+            level.updateScene();
+        }
+    }
+
+    /**
+     * Runs one simulation step.
+     *
+     * @return the number of live entities after the step
+     */
+    @Benchmark
+    public int updateScene() {
+        level.updateScene();
+        return level.getLiveEntityCount();
+    }
+}
@@ -0,0 +1,42 @@
+@REM ----------------------------------------------------------------------------
+@REM Launches Sky Battle from the packaged jar with an AppCDS archive, so the JVM
+@REM maps the game's classes from the archive instead of loading them one by one.
+@REM
+@REM Build the jar first with:   mvnw.cmd package
+@REM Record the archive with:    skybattle.cmd --training
+@REM Then launch normally with:  skybattle.cmd [game arguments]
+@REM
+@REM The training run plays every level for a few seconds and writes every class it
+@REM loaded to target\skybattle.jsa. Normal launches pick the archive up, and the JVM
+@REM recreates it from the launch if it is missing or the jar has changed since.
+@REM Every launch logs its time to first frame and the archive it started with.
+@REM ----------------------------------------------------------------------------
+@echo off
+setlocal
+
+set "TARGET_DIR=%~dp0target"
+set "ARCHIVE=%TARGET_DIR%\skybattle.jsa"
+set "MODULE_PATH=%TARGET_DIR%\CW2024-1.0-SNAPSHOT.jar;%TARGET_DIR%\lib"
+set "MAIN_CLASS=com.example.demo/com.example.demo.controller.Main"
+
+if not exist "%TARGET_DIR%\lib" (
+    echo Run mvnw.cmd package before launching the game. 1>&2
+    exit /b 1
+)
+
+set "TRAINING="
+for %%A in (%*) do if "%%~A"=="--training" set "TRAINING=1"
+
+if defined TRAINING (
+    if exist "%ARCHIVE%" del "%ARCHIVE%"
+    java -XX:ArchiveClassesAtExit="%ARCHIVE%" -Xlog:cds=off -p "%MODULE_PATH%" -m %MAIN_CLASS% %*
+    if errorlevel 1 exit /b 1
+    if not exist "%ARCHIVE%" (
+        echo The training run did not write %ARCHIVE%. 1>&2
+        exit /b 1
+    )
+    echo Wrote class-data-sharing archive %ARCHIVE%
+) else (
+    java -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile="%ARCHIVE%" -p "%MODULE_PATH%" -m %MAIN_CLASS% %*
+)
+exit /b %ERRORLEVEL%
@@ -0,0 +1,40 @@
+#!/bin/sh
+# ----------------------------------------------------------------------------
+# Launches Sky Battle from the packaged jar with an AppCDS archive, so the JVM
+# maps the game's classes from the archive instead of loading them one by one.
+#
+# Build the jar first with:   ./mvnw package
+# Record the archive with:    ./skybattle.sh --training
+# Then launch normally with:  ./skybattle.sh [game arguments]
+#
+# The training run plays every level for a few seconds and writes every class it
+# loaded to target/skybattle.jsa. Normal launches pick the archive up, and the JVM
+# recreates it from the launch if it is missing or the jar has changed since.
+# Every launch logs its time to first frame and the archive it started with.
+# ----------------------------------------------------------------------------
+
+TARGET_DIR="$(cd "$(dirname "$0")" && pwd)/target"
+ARCHIVE="$TARGET_DIR/skybattle.jsa"
+MODULE_PATH="$TARGET_DIR/CW2024-1.0-SNAPSHOT.jar:$TARGET_DIR/lib"
+MAIN_CLASS="com.example.demo/com.example.demo.controller.Main"
+
+if [ ! -d "$TARGET_DIR/lib" ]; then
+    echo "Run ./mvnw package before launching the game." >&2
+    exit 1
+fi
+
+case " $* " in
+    *" --training "*)
+        rm -f "$ARCHIVE"
+        java -XX:ArchiveClassesAtExit="$ARCHIVE" -Xlog:cds=off -p "$MODULE_PATH" -m "$MAIN_CLASS" "$@" || exit
+        if [ ! -f "$ARCHIVE" ]; then
+            echo "The training run did not write $ARCHIVE." >&2
+            exit 1
+        fi
+        echo "Wrote class-data-sharing archive $ARCHIVE"
+        ;;
+    *)
+        exec java -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile="$ARCHIVE" \
+            -p "$MODULE_PATH" -m "$MAIN_CLASS" "$@"
+        ;;
+esac
@@ -1,29 +1,67 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
 /**
  * The {@code ActiveActor} class represents an abstract base class for interactive actors
- * in a JavaFX application. It extends {@link ImageView} to provide graphical representation
- * and defines behavior for actors that can move and update their positions.
+ * in the game and defines behavior for actors that can move and update their positions.
+ * <p>
+ * An actor only holds simulation state: its sprite, size and position. It has no JavaFX node
+ * of its own, so levels can run without a display. When the game is displayed, a
+ * {@link LevelRenderer} draws each actor's sprite at its position interpolated between the
+ * previous and current simulation steps.
+ * </p>
+ * <p>
+ * While an actor is in play, its state lives in a slot of the level's {@link EntityStore} and the
+ * fields below only hold it while the actor is out of play, such as in a projectile pool.
+ * </p>
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
+
+    /** The classpath resource path of the actor's sprite. */
+    private final String imagePath;
+
+    /** The displayed width of the actor, derived once from the image's aspect ratio. */
+    private final double width;
+
+    /** The displayed height of the actor. */
+    private final double height;
+
+    /** The simulated X-coordinate of the actor's left edge. */
+    private double x;
+
+    /** The simulated Y-coordinate of the actor's top edge. */
+    private double y;
+
+    /** The X-coordinate at the start of the current simulation step. */
+    private double previousX;
+
+    /** The Y-coordinate at the start of the current simulation step. */
+    private double previousY;
+
+    /** The distance moved along the X axis per simulation step, for kinematic actors. */
+    private double velocityX;
+
+    /** The distance moved along the Y axis per simulation step, for kinematic actors. */
+    private double velocityY;
+
+    /** The store holding the actor's state while it is in play, or {@code null}. */
+    private EntityStore store;
+
+    /** The actor's slot in {@link #store}. */
+    private int slot = -1;
 
     /**
-     * Constructs an {@code ActiveActor} with the specified image, height, and initial position.
+     * Constructs an {@code ActiveActor} with the specified sprite, height, and initial position.
      *
-     * @param image the image to be displayed for the actor
-     * @param imageHeight the height of the image to be displayed
+     * @param imagePath the classpath resource path of the sprite to be displayed for the actor
+     * @param imageHeight the height of the sprite to be displayed
      * @param initialXPos the initial X-coordinate position of the actor
      * @param initialYPos the initial Y-coordinate position of the actor
      */
-    public ActiveActor(Image image, int imageHeight, double initialXPos, double initialYPos) {
-        this.setImage(image);
-        this.setLayoutX(initialXPos);
-        this.setLayoutY(initialYPos);
-        this.setFitHeight(imageHeight);
-        this.setPreserveRatio(true);
+    public ActiveActor(String imagePath, int imageHeight, double initialXPos, double initialYPos) {
+        this.imagePath = imagePath;
+        this.height = imageHeight;
+        this.width = SpriteMetrics.getWidthAtHeight(imagePath, imageHeight);
+        placeAt(initialXPos, initialYPos);
     }
 
     /**
@@ -32,13 +70,136 @@ public abstract class ActiveActor extends ImageView {
      */
     public abstract void updatePosition();
 
+    /**
+     * Returns the classpath resource path of the actor's sprite.
+     *
+     * @return the sprite's resource path
+     */
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    /**
+     * Returns the displayed width of the actor.
+     *
+     * @return the width of the actor
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the displayed height of the actor.
+     *
+     * @return the height of the actor
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the simulated X-coordinate of the actor's left edge.
+     *
+     * @return the minimum X-coordinate of the actor
+     */
+    public double getMinX() {
+        return store != null ? store.x[slot] : x;
+    }
+
+    /**
+     * Returns the simulated Y-coordinate of the actor's top edge.
+     *
+     * @return the minimum Y-coordinate of the actor
+     */
+    public double getMinY() {
+        return store != null ? store.y[slot] : y;
+    }
+
+    /**
+     * Records the current position as the start of a new simulation step.
+     * The game loop calls this before the actor is updated.
+     */
+    public void savePreviousPosition() {
+        if (store != null) {
+            store.previousX[slot] = store.x[slot];
+            store.previousY[slot] = store.y[slot];
+        } else {
+            previousX = x;
+            previousY = y;
+        }
+    }
+
+    /**
+     * Returns the X-coordinate of the actor interpolated between the previous and current simulation steps.
+     *
+     * @param alpha how far the rendered frame lies between the previous step (0) and the current step (1)
+     * @return the interpolated X-coordinate of the actor's left edge
+     */
+    public double getInterpolatedX(double alpha) {
+        if (store != null) {
+            return store.previousX[slot] + (store.x[slot] - store.previousX[slot]) * alpha;
+        }
+        return previousX + (x - previousX) * alpha;
+    }
+
+    /**
+     * Returns the Y-coordinate of the actor interpolated between the previous and current simulation steps.
+     *
+     * @param alpha how far the rendered frame lies between the previous step (0) and the current step (1)
+     * @return the interpolated Y-coordinate of the actor's top edge
+     */
+    public double getInterpolatedY(double alpha) {
+        if (store != null) {
+            return store.previousY[slot] + (store.y[slot] - store.previousY[slot]) * alpha;
+        }
+        return previousY + (y - previousY) * alpha;
+    }
+
+    /**
+     * Places the actor at the given position without interpolating from its old position.
+     *
+     * @param xPos the new X-coordinate of the actor's left edge
+     * @param yPos the new Y-coordinate of the actor's top edge
+     */
+    protected void placeAt(double xPos, double yPos) {
+        setMinX(xPos);
+        setMinY(yPos);
+        savePreviousPosition();
+    }
+
+    /**
+     * Sets the simulated X-coordinate of the actor within the current simulation step.
+     *
+     * @param xPos the new X-coordinate of the actor's left edge
+     */
+    protected void setMinX(double xPos) {
+        if (store != null) {
+            store.x[slot] = xPos;
+        } else {
+            x = xPos;
+        }
+    }
+
+    /**
+     * Sets the simulated Y-coordinate of the actor within the current simulation step.
+     *
+     * @param yPos the new Y-coordinate of the actor's top edge
+     */
+    protected void setMinY(double yPos) {
+        if (store != null) {
+            store.y[slot] = yPos;
+        } else {
+            y = yPos;
+        }
+    }
+
     /**
      * Moves the actor horizontally by the specified amount.
      *
      * @param horizontalMove the amount to move the actor horizontally (positive for right, negative for left)
      */
     protected void moveHorizontally(double horizontalMove) {
-        this.setTranslateX(getTranslateX() + horizontalMove);
+        setMinX(getMinX() + horizontalMove);
     }
 
     /**
@@ -47,6 +208,108 @@ public abstract class ActiveActor extends ImageView {
      * @param verticalMove the amount to move the actor vertically (positive for down, negative for up)
      */
     protected void moveVertically(double verticalMove) {
-        this.setTranslateY(getTranslateY() + verticalMove);
+        setMinY(getMinY() + verticalMove);
+    }
+
+    /**
+     * Sets the distance the actor moves per simulation step when it is {@link #isKinematic() kinematic}.
+     *
+     * @param xVelocity the distance moved along the X axis per step
+     * @param yVelocity the distance moved along the Y axis per step
+     */
+    protected void setVelocity(double xVelocity, double yVelocity) {
+        if (store != null) {
+            store.velocityX[slot] = xVelocity;
+            store.velocityY[slot] = yVelocity;
+        } else {
+            velocityX = xVelocity;
+            velocityY = yVelocity;
+        }
+    }
+
+    /**
+     * Moves the actor by its velocity.
+     */
+    protected void moveByVelocity() {
+        if (store != null) {
+            store.x[slot] += store.velocityX[slot];
+            store.y[slot] += store.velocityY[slot];
+        } else {
+            x += velocityX;
+            y += velocityY;
+        }
+    }
+
+    /**
+     * Returns whether the actor does nothing each step but move by its velocity. The level moves
+     * kinematic actors in bulk through its {@link EntityStore} instead of updating them one by one.
+     *
+     * @return {@code true} if the actor is kinematic; {@code false} by default
+     */
+    protected boolean isKinematic() {
+        return false;
+    }
+
+    /**
+     * Returns the store holding the actor's state while it is in play.
+     *
+     * @return the entity store, or {@code null} if the actor is out of play
+     */
+    EntityStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the actor's slot in its entity store.
+     *
+     * @return the slot, or -1 if the actor is out of play
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Records that the store has moved the actor to another slot.
+     *
+     * @param newSlot the actor's new slot
+     */
+    void setSlot(int newSlot) {
+        slot = newSlot;
+    }
+
+    /**
+     * Copies the actor's state into a slot of a store; its accessors use the slot from then on.
+     * Subclasses with further state in the store extend this.
+     *
+     * @param entityStore the store
+     * @param entitySlot the actor's slot
+     */
+    void moveInto(EntityStore entityStore, int entitySlot) {
+        entityStore.x[entitySlot] = x;
+        entityStore.y[entitySlot] = y;
+        entityStore.previousX[entitySlot] = previousX;
+        entityStore.previousY[entitySlot] = previousY;
+        entityStore.velocityX[entitySlot] = velocityX;
+        entityStore.velocityY[entitySlot] = velocityY;
+        store = entityStore;
+        slot = entitySlot;
+    }
+
+    /**
+     * Copies the actor's state back out of its slot; its accessors use its own fields from then on.
+     * Subclasses with further state in the store extend this.
+     *
+     * @param entityStore the store
+     * @param entitySlot the actor's slot
+     */
+    void moveOutOf(EntityStore entityStore, int entitySlot) {
+        x = entityStore.x[entitySlot];
+        y = entityStore.y[entitySlot];
+        previousX = entityStore.previousX[entitySlot];
+        previousY = entityStore.previousY[entitySlot];
+        velocityX = entityStore.velocityX[entitySlot];
+        velocityY = entityStore.velocityY[entitySlot];
+        store = null;
+        slot = -1;
     }
 }
@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-
 /**
  * The {@code ActiveActorDestructible} class extends {@link ActiveActor} and implements {@link Destructible},
  * providing additional functionality for actors that can be destroyed and interact with other destructible actors.
@@ -9,21 +7,25 @@ import javafx.scene.image.Image;
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
     /**
-     * Indicates whether the actor is destroyed.
+     * Indicates whether the actor is destroyed, while it is out of play; in play, the flag lives in the entity store.
      */
     private boolean isDestroyed;
 
+    /** The solid pixels of the actor's sprite at its displayed size, shared by every actor using the sprite. */
+    private final CollisionMask collisionMask;
+
     /**
-     * Constructs an {@code ActiveActorDestructible} with the specified image, height, and initial position.
+     * Constructs an {@code ActiveActorDestructible} with the specified sprite, height, and initial position.
      *
-     * @param image the image to be displayed for the actor
+     * @param imagePath the classpath resource path of the sprite to be displayed for the actor
      * @param imageHeight the height of the image to be displayed
      * @param initialXPos the initial X-coordinate position of the actor
      * @param initialYPos the initial Y-coordinate position of the actor
      */
-    public ActiveActorDestructible(Image image, int imageHeight, double initialXPos, double initialYPos) {
-        super(image, imageHeight, initialXPos, initialYPos);
+    public ActiveActorDestructible(String imagePath, int imageHeight, double initialXPos, double initialYPos) {
+        super(imagePath, imageHeight, initialXPos, initialYPos);
         isDestroyed = false;
+        collisionMask = CollisionMask.forSprite(imagePath, imageHeight);
     }
 
     /**
@@ -60,7 +62,12 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * @param isDestroyed {@code true} if the actor is destroyed; {@code false} otherwise
      */
     protected void setDestroyed(boolean isDestroyed) {
-        this.isDestroyed = isDestroyed;
+        EntityStore store = getStore();
+        if (store != null) {
+            store.destroyed.set(getSlot(), isDestroyed);
+        } else {
+            this.isDestroyed = isDestroyed;
+        }
     }
 
     /**
@@ -69,48 +76,144 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * @return {@code true} if the actor is destroyed; {@code false} otherwise
      */
     public boolean isDestroyed() {
-        return isDestroyed;
+        EntityStore store = getStore();
+        return store != null ? store.destroyed.get(getSlot()) : isDestroyed;
     }
 
     /**
-     * Checks if this actor collides with another destructible actor.
+     * Returns the mask of the solid pixels of the actor's sprite, used to test collisions against
+     * the visible art rather than the bounding box.
+     *
+     * @return the collision mask
+     */
+    public CollisionMask getCollisionMask() {
+        return collisionMask;
+    }
+
+    @Override
+    void moveInto(EntityStore entityStore, int entitySlot) {
+        super.moveInto(entityStore, entitySlot);
+        entityStore.destroyed.set(entitySlot, isDestroyed);
+    }
+
+    @Override
+    void moveOutOf(EntityStore entityStore, int entitySlot) {
+        isDestroyed = entityStore.destroyed.get(entitySlot);
+        super.moveOutOf(entityStore, entitySlot);
+    }
+
+    /**
+     * Checks if this actor collides with another destructible actor at their simulated positions.
+     * Their bounding boxes are compared first, and only overlapping boxes have their
+     * {@link CollisionMask collision masks} compared, so transparent margins never collide.
      *
      * @param other the other {@code ActiveActorDestructible} to check for collision
      * @return {@code true} if the actors collide; {@code false} otherwise
      */
     public boolean collidesWith(ActiveActorDestructible other) {
-        return this.getBoundsInParent().intersects(other.getBoundsInParent());
+        return getMinX() < other.getMinX() + other.getWidth() && other.getMinX() < getMinX() + getWidth()
+                && getMinY() < other.getMinY() + other.getHeight() && other.getMinY() < getMinY() + getHeight()
+                && collisionMask.overlaps(other.collisionMask, (int) Math.round(other.getMinX() - getMinX()),
+                        (int) Math.round(other.getMinY() - getMinY()));
     }
 
     /**
-     * Checks if the actor is out of the screen bounds.
+     * Checks if this actor collides with another destructible actor at any point during the current
+     * simulation step, rather than only at its end. Both actors are taken to move in a straight line
+     * from their previous position to their current one, so a fast projectile cannot pass through a
+     * thin target between two steps. Whenever {@link #collidesWith} holds, so does this. The swept
+     * bounding boxes are compared first, and the collision masks are then compared along the motion.
      *
-     * @param screenWidth the width of the screen
-     * @param screenHeight the height of the screen
-     * @return {@code true} if the actor is out of bounds; {@code false} otherwise
+     * @param other the other {@code ActiveActorDestructible} to check for collision
+     * @return {@code true} if the actors overlap at some point during the step; {@code false} otherwise
      */
-    public boolean isOutOfBounds(double screenWidth, double screenHeight) {
-        return getTranslateX() < -getWidth() || getTranslateX() > screenWidth ||
-               getTranslateY() < -getHeight() || getTranslateY() > screenHeight;
+    public boolean collidesWithinStep(ActiveActorDestructible other) {
+        double startX = getInterpolatedX(0);
+        double startY = getInterpolatedY(0);
+        double otherStartX = other.getInterpolatedX(0);
+        double otherStartY = other.getInterpolatedY(0);
+        return sweptBoxesOverlap(startX, startY, getMinX(), getMinY(), getWidth(), getHeight(),
+                otherStartX, otherStartY, other.getMinX(), other.getMinY(), other.getWidth(), other.getHeight())
+                && CollisionMask.overlapDuringStep(collisionMask, startX, startY, getMinX(), getMinY(),
+                        other.collisionMask, otherStartX, otherStartY, other.getMinX(), other.getMinY());
     }
 
     /**
-     * Returns the width of the actor. This method should be implemented to provide the correct width.
+     * Returns whether two boxes moving in straight lines over one step overlap at some time during it.
+     * The test works in the second box's frame of reference, where the first box moves by the
+     * difference of the two displacements, and intersects the times at which the boxes overlap on
+     * each axis. Shared with {@link EntityStore#sweptOverlaps}, which passes its arrays' values.
      *
-     * @return the width of the actor
+     * @param startX the first box's X-coordinate at the start of the step
+     * @param startY the first box's Y-coordinate at the start of the step
+     * @param endX the first box's X-coordinate at the end of the step
+     * @param endY the first box's Y-coordinate at the end of the step
+     * @param width the first box's width
+     * @param height the first box's height
+     * @param otherStartX the second box's X-coordinate at the start of the step
+     * @param otherStartY the second box's Y-coordinate at the start of the step
+     * @param otherEndX the second box's X-coordinate at the end of the step
+     * @param otherEndY the second box's Y-coordinate at the end of the step
+     * @param otherWidth the second box's width
+     * @param otherHeight the second box's height
+     * @return {@code true} if the boxes overlap at some time during the step
      */
-    private int getWidth() {
-        // TODO Auto-generated method stub
-        return 0;
+    static boolean sweptBoxesOverlap(double startX, double startY, double endX, double endY, double width, double height,
+                                     double otherStartX, double otherStartY, double otherEndX, double otherEndY,
+                                     double otherWidth, double otherHeight) {
+        double moveX = (endX - startX) - (otherEndX - otherStartX);
+        double moveY = (endY - startY) - (otherEndY - otherStartY);
+        double enter = 0;
+        double exit = 1;
+        if (moveX == 0) {
+            if (startX >= otherStartX + otherWidth || otherStartX >= startX + width) {
+                return false;
+            }
+        } else {
+            double touch = (otherStartX - startX - width) / moveX;
+            double leave = (otherStartX + otherWidth - startX) / moveX;
+            enter = Math.max(enter, Math.min(touch, leave));
+            exit = Math.min(exit, Math.max(touch, leave));
+            if (enter >= exit) {
+                return false;
+            }
+        }
+        if (moveY == 0) {
+            if (startY >= otherStartY + otherHeight || otherStartY >= startY + height) {
+                return false;
+            }
+        } else {
+            double touch = (otherStartY - startY - height) / moveY;
+            double leave = (otherStartY + otherHeight - startY) / moveY;
+            enter = Math.max(enter, Math.min(touch, leave));
+            exit = Math.min(exit, Math.max(touch, leave));
+        }
+        return enter < exit;
     }
 
     /**
-     * Returns the height of the actor. This method should be implemented to provide the correct height.
+     * Checks if the actor is entirely outside the screen bounds.
      *
-     * @return the height of the actor
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     * @return {@code true} if the actor is out of bounds; {@code false} otherwise
+     */
+    public boolean isOutOfBounds(double screenWidth, double screenHeight) {
+        return isOutOfBounds(screenWidth, screenHeight, 0);
+    }
+
+    /**
+     * Checks if the actor is entirely outside the screen bounds extended by a margin on every side.
+     *
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     * @param margin the distance beyond the screen edges the actor may travel before it is out of bounds
+     * @return {@code true} if the actor is out of bounds; {@code false} otherwise
      */
-    private int getHeight() {
-        // TODO Auto-generated method stub
-        return 0;
+    public boolean isOutOfBounds(double screenWidth, double screenHeight, double margin) {
+        double x = getMinX();
+        double y = getMinY();
+        return x + getWidth() < -margin || x > screenWidth + margin ||
+               y + getHeight() < -margin || y > screenHeight + margin;
     }
 }
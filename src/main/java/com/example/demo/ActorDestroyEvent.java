@@ -0,0 +1,41 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code ActorDestroyEvent} class is a Flight Recorder event marking a destroyed actor leaving play.
+ */
+@Name("com.example.demo.ActorDestroy")
+@Label("Actor Destroy")
+@Category({"Sky Battle", "Actors"})
+@Description("A destroyed actor was removed from play")
+@StackTrace(false)
+final class ActorDestroyEvent extends Event {
+
+    @Label("Actor Type")
+    String actorType;
+
+    @Label("Pooled")
+    @Description("Whether the actor was returned to a pool for reuse")
+    boolean pooled;
+
+    /**
+     * Emits an event for the given actor, if the event is enabled.
+     *
+     * @param actor the actor that left play
+     * @param pooled whether the actor was returned to a pool
+     */
+    static void emit(ActiveActor actor, boolean pooled) {
+        ActorDestroyEvent event = new ActorDestroyEvent();
+        if (event.shouldCommit()) {
+            event.actorType = actor.getClass().getSimpleName();
+            event.pooled = pooled;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code ActorSpawnEvent} class is a Flight Recorder event marking an actor entering play,
+ * such as a spawned enemy or a fired projectile.
+ */
+@Name("com.example.demo.ActorSpawn")
+@Label("Actor Spawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An actor entered play")
+@StackTrace(false)
+final class ActorSpawnEvent extends Event {
+
+    @Label("Actor Type")
+    String actorType;
+
+    @Label("X")
+    double x;
+
+    @Label("Y")
+    double y;
+
+    /**
+     * Emits an event for the given actor, if the event is enabled.
+     *
+     * @param actor the actor that entered play
+     */
+    static void emit(ActiveActor actor) {
+        ActorSpawnEvent event = new ActorSpawnEvent();
+        if (event.shouldCommit()) {
+            event.actorType = actor.getClass().getSimpleName();
+            event.x = actor.getMinX();
+            event.y = actor.getMinY();
+            event.commit();
+        }
+    }
+}
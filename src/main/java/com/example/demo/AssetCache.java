@@ -0,0 +1,152 @@
+package com.example.demo;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.scene.image.Image;
+
+/**
+ * The {@code AssetCache} class is a process-wide cache of decoded images shared by every actor,
+ * HUD element and menu page in the game.
+ * <p>
+ * Images are keyed by their resource path and the size they were requested at, so each
+ * sprite is decoded from the classpath once per size instead of once per actor. The cache
+ * also tracks hit, miss and decoded-byte counts so the effect of the cache can be measured.
+ * </p>
+ */
+public final class AssetCache {
+
+    /** The resource directory containing all of the game's images. */
+    public static final String IMAGE_DIRECTORY = "/com/example/demo/images/";
+
+    /** Bytes used per decoded pixel (32-bit ARGB). */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /** The decoded images, keyed by path and requested size. */
+    private static final Map<AssetKey, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong DECODED_BYTES = new AtomicLong();
+
+    /**
+     * Identifies a cached image by its resource path and requested size.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @param width the requested width, or 0 to use the image's own width
+     * @param height the requested height, or 0 to use the image's own height
+     * @param preserveRatio whether the image's aspect ratio is preserved when scaling
+     */
+    private record AssetKey(String resourcePath, double width, double height, boolean preserveRatio) {
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private AssetCache() {
+    }
+
+    /**
+     * Returns the image at the given resource path at its original size.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @return the shared decoded image
+     */
+    public static Image getImage(String resourcePath) {
+        return getImage(resourcePath, 0, 0, true);
+    }
+
+    /**
+     * Returns the image at the given resource path, scaled to the given height while
+     * preserving its aspect ratio. This matches how actors size their sprites.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @param height the height the image is displayed at
+     * @return the shared decoded image
+     */
+    public static Image getImage(String resourcePath, double height) {
+        return getImage(resourcePath, 0, height, true);
+    }
+
+    /**
+     * Returns the image at the given resource path decoded at the requested size.
+     * The image is decoded on the first request for this path and size and shared afterwards.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @param width the requested width, or 0 to use the image's own width
+     * @param height the requested height, or 0 to use the image's own height
+     * @param preserveRatio whether the image's aspect ratio is preserved when scaling
+     * @return the shared decoded image
+     */
+    public static Image getImage(String resourcePath, double width, double height, boolean preserveRatio) {
+        AssetKey key = new AssetKey(resourcePath, width, height, preserveRatio);
+        Image image = IMAGES.get(key);
+        if (image != null) {
+            HITS.incrementAndGet();
+            return image;
+        }
+        return IMAGES.computeIfAbsent(key, AssetCache::decode);
+    }
+
+    /**
+     * Decodes the image for the given key from the classpath and records the miss.
+     *
+     * @param key the path and size of the image to decode
+     * @return the decoded image
+     */
+    private static Image decode(AssetKey key) {
+        String url = Objects.requireNonNull(AssetCache.class.getResource(key.resourcePath()),
+                "Missing image resource: " + key.resourcePath()).toExternalForm();
+        Image image = new Image(url, key.width(), key.height(), key.preserveRatio(), true);
+        MISSES.incrementAndGet();
+        DECODED_BYTES.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+        return image;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return the cache hit count
+     */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /**
+     * Returns the number of requests that required an image to be decoded.
+     *
+     * @return the cache miss count
+     */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    /**
+     * Returns the total size of all decoded images, assuming 32-bit pixels.
+     *
+     * @return the number of decoded bytes held by the cache
+     */
+    public static long getDecodedBytes() {
+        return DECODED_BYTES.get();
+    }
+
+    /**
+     * Returns the number of distinct images held by the cache.
+     *
+     * @return the number of cached images
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * Returns a one-line summary of the cache metrics, suitable for logging.
+     *
+     * @return the cache statistics
+     */
+    public static String getStatistics() {
+        return String.format("AssetCache: %d images, %d hits, %d misses, %.1f KB decoded",
+                size(), getHitCount(), getMissCount(), getDecodedBytes() / 1024.0);
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code AssetPreloader} class decodes a set of assets into the shared caches in parallel,
+ * each on a virtual thread of its own, and times every one.
+ * <p>
+ * Assets are added by the key they are later requested with, so that the game's own requests are
+ * served from {@link AssetCache} and {@link CollisionMask} without decoding anything. Tasks added
+ * with {@link #addFinishingTask(String, Runnable)} run once every other asset has loaded, for work
+ * that is assembled from them, such as the {@link TextureAtlas}. A failed asset is recorded in its
+ * timing and otherwise left to load on first use, so preloading never stops the game from starting.
+ * </p>
+ * <p>
+ * {@link #forGame(double, double)} lists every image in the game at the sizes it is drawn at.
+ * </p>
+ */
+public final class AssetPreloader {
+
+    /** Runs each preloading task on a virtual thread of its own. */
+    private static final ExecutorService LOADER = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Task> finishingTasks = new ArrayList<>();
+
+    /**
+     * The time taken to load one asset.
+     *
+     * @param asset a description of the asset and the size it was loaded at
+     * @param nanos the time taken to load it, including waiting for a shared cache entry
+     * @param failure the reason the asset failed to load, or {@code null} if it loaded
+     */
+    public record AssetTiming(String asset, long nanos, String failure) {
+    }
+
+    /**
+     * A named loading task.
+     *
+     * @param asset a description of the asset and the size it is loaded at
+     * @param loader loads the asset into its cache
+     */
+    private record Task(String asset, Runnable loader) {
+    }
+
+    /**
+     * Returns a preloader for every image in the game, at the sizes the game draws them at: every
+     * level's background and enemies' collision masks, the sprites packed into the texture atlas,
+     * the atlas itself, the collision masks of the sprites every level shares, and the end-of-game images.
+     *
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     * @return the preloader, ready to {@link #start(IntConsumer) start}
+     */
+    public static AssetPreloader forGame(double screenWidth, double screenHeight) {
+        AssetPreloader preloader = new AssetPreloader();
+        for (String level : LevelRegistry.getLevelNames()) {
+            LevelRegistry.addAssets(level, preloader, screenWidth, screenHeight);
+        }
+        preloader.addCollisionMask(AssetCache.IMAGE_DIRECTORY + UserPlane.IMAGE_NAME, UserPlane.IMAGE_HEIGHT);
+        preloader.addCollisionMask(AssetCache.IMAGE_DIRECTORY + UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT);
+        preloader.addCollisionMask(AssetCache.IMAGE_DIRECTORY + EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT);
+        preloader.addImage(WinImage.IMAGE_NAME, WinImage.WIDTH, WinImage.HEIGHT, false);
+        preloader.addImage(GameOverImage.IMAGE_NAME, 0, 0, true);
+        preloader.addImage(GameOverImage.IMAGE_NAME, LevelParent.GAME_OVER_IMAGE_WIDTH, LevelParent.GAME_OVER_IMAGE_HEIGHT, true);
+        return preloader;
+    }
+
+    /**
+     * Adds an image to decode into the {@link AssetCache} at the given size. Images already added
+     * at the same size are not added again.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @param width the requested width, or 0 to use the image's own width
+     * @param height the requested height, or 0 to use the image's own height
+     * @param preserveRatio whether the image's aspect ratio is preserved when scaling
+     */
+    public void addImage(String resourcePath, double width, double height, boolean preserveRatio) {
+        String asset = String.format("%s %.0fx%.0f%s", resourcePath, width, height, preserveRatio ? " keeping ratio" : "");
+        addTask(asset, () -> AssetCache.getImage(resourcePath, width, height, preserveRatio));
+    }
+
+    /**
+     * Adds a sprite's collision mask to build at the given displayed height.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param height the displayed height of the sprite
+     */
+    public void addCollisionMask(String resourcePath, double height) {
+        addTask(String.format("%s mask at %.0f", resourcePath, height), () -> CollisionMask.forSprite(resourcePath, height));
+    }
+
+    /**
+     * Adds a task loading one asset. A task with the same description as one already added is ignored.
+     *
+     * @param asset a description of the asset and the size it is loaded at
+     * @param loader loads the asset into its cache
+     */
+    public void addTask(String asset, Runnable loader) {
+        add(tasks, asset, loader);
+    }
+
+    /**
+     * Adds a task to run once every task added with {@link #addTask(String, Runnable)} has finished.
+     *
+     * @param asset a description of the asset
+     * @param loader assembles the asset
+     */
+    public void addFinishingTask(String asset, Runnable loader) {
+        add(finishingTasks, asset, loader);
+    }
+
+    /**
+     * Returns the number of assets the preloader loads.
+     *
+     * @return the asset count
+     */
+    public int getAssetCount() {
+        return tasks.size() + finishingTasks.size();
+    }
+
+    /**
+     * Starts loading every asset and returns their timings once all have loaded or failed.
+     *
+     * @param progress receives the number of assets finished so far after each one, on the loading thread
+     * @return a future completing with the timings, in the order the assets were added
+     */
+    public CompletableFuture<List<AssetTiming>> start(IntConsumer progress) {
+        AtomicInteger finished = new AtomicInteger();
+        List<CompletableFuture<AssetTiming>> loads = new ArrayList<>(getAssetCount());
+        for (Task task : tasks) {
+            loads.add(load(task, finished, progress));
+        }
+        CompletableFuture<Void> firstStage = CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new));
+        for (Task task : finishingTasks) {
+            loads.add(firstStage.thenCompose(ignored -> load(task, finished, progress)));
+        }
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> loads.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Starts loading every asset without reporting progress.
+     *
+     * @return a future completing with the timings, in the order the assets were added
+     */
+    public CompletableFuture<List<AssetTiming>> start() {
+        return start(finished -> { });
+    }
+
+    /**
+     * Formats timings as one line per asset, slowest first, followed by the total.
+     *
+     * @param timings the timings
+     * @param wallNanos the wall-clock time taken to load them all
+     * @return the report
+     */
+    public static String report(List<AssetTiming> timings, long wallNanos) {
+        StringBuilder report = new StringBuilder();
+        long totalNanos = 0;
+        List<AssetTiming> slowestFirst = new ArrayList<>(timings);
+        slowestFirst.sort(Comparator.comparingLong(AssetTiming::nanos).reversed());
+        for (AssetTiming timing : slowestFirst) {
+            totalNanos += timing.nanos();
+            report.append(String.format("%9.2f ms  %s%s%n", timing.nanos() / 1e6, timing.asset(),
+                    timing.failure() == null ? "" : "  FAILED: " + timing.failure()));
+        }
+        report.append(String.format("Preloaded %d assets in %.1f ms (%.1f ms of loading, %.1fx parallel speedup)%n",
+                timings.size(), wallNanos / 1e6, totalNanos / 1e6, wallNanos == 0 ? 0 : (double) totalNanos / wallNanos));
+        return report.toString();
+    }
+
+    /**
+     * Adds a task to a list unless one with the same description is already in it.
+     *
+     * @param list the list
+     * @param asset a description of the asset
+     * @param loader loads the asset
+     */
+    private static void add(List<Task> list, String asset, Runnable loader) {
+        for (Task task : list) {
+            if (task.asset().equals(asset)) {
+                return;
+            }
+        }
+        list.add(new Task(asset, loader));
+    }
+
+    /**
+     * Runs a task on a virtual thread, timing it and counting it as finished whether or not it fails.
+     *
+     * @param task the task
+     * @param finished the number of tasks finished so far
+     * @param progress receives the new number of finished tasks
+     * @return a future completing with the task's timing
+     */
+    private static CompletableFuture<AssetTiming> load(Task task, AtomicInteger finished, IntConsumer progress) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            String failure = null;
+            try {
+                task.loader().run();
+            } catch (RuntimeException e) {
+                failure = e.getMessage();
+            }
+            AssetTiming timing = new AssetTiming(task.asset(), System.nanoTime() - start, failure);
+            progress.accept(finished.incrementAndGet());
+            return timing;
+        }, LOADER);
+    }
+}
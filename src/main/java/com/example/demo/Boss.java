@@ -1,7 +1,7 @@
 package com.example.demo;
 
 import java.util.*;
-import javafx.scene.image.Image;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code Boss} class represents a powerful enemy in the game, extending the {@link FighterPlane} class.
@@ -10,13 +10,13 @@ import javafx.scene.image.Image;
 public class Boss extends FighterPlane {
 
     /** Path to the boss's image. */
-    private static final String IMAGE_NAME = "bossplane.png";
+    static final String IMAGE_NAME = "bossplane.png";
     private static final double INITIAL_X_POSITION = 900.0;
     private static final double INITIAL_Y_POSITION = 400;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
     private static final double BOSS_FIRE_RATE = .04;
     private static final double BOSS_SHIELD_PROBABILITY = .002;
-    private static final int IMAGE_HEIGHT = 300;
+    static final int IMAGE_HEIGHT = 300;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int HEALTH = 10;
     private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
@@ -42,10 +42,22 @@ public class Boss extends FighterPlane {
     private int framesWithShieldActivated;
 
     /**
-     * Constructs a new {@code Boss} with predefined image, initial position, and health.
+     * Constructs a new {@code Boss} with predefined image, initial position, and health,
+     * using a generator created from the default seed.
      */
     public Boss() {
-        super(new Image(Boss.class.getResourceAsStream("/com/example/demo/images/" + IMAGE_NAME)), IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+        this(GameRandom.create(GameRandom.defaultSeed()));
+    }
+
+    /**
+     * Constructs a new {@code Boss} with predefined image, initial position, and health.
+     * The generator shuffles the initial move pattern, so it is needed at construction.
+     *
+     * @param random the generator behind the boss's moves, firing and shield
+     */
+    public Boss(RandomGenerator random) {
+        super(AssetCache.IMAGE_DIRECTORY + IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+        setRandomGenerator(random);
         movePattern = new ArrayList<>();
         consecutiveMovesInSameDirection = 0;
         indexOfCurrentMove = 0;
@@ -60,11 +72,11 @@ public class Boss extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        double initialTranslateY = getTranslateY();
+        double initialYPosition = getMinY();
         moveVertically(getNextMove());
-        double currentPosition = getLayoutY() + getTranslateY();
+        double currentPosition = getMinY();
         if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-            setTranslateY(initialTranslateY);
+            setMinY(initialYPosition);
         }
     }
 
@@ -80,11 +92,13 @@ public class Boss extends FighterPlane {
     /**
      * Fires a projectile from the boss's current position.
      *
-     * @return a {@link BossProjectile} if fired in the current frame; otherwise {@code null}.
+     * @return a pooled {@link BossProjectile} if fired in the current frame; otherwise {@code null}.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+        return bossFiresInCurrentFrame()
+                ? getProjectilePools().getBossProjectilePool().acquire(BossProjectile.INITIAL_X_POSITION, getProjectileInitialPosition())
+                : null;
     }
 
     /**
@@ -107,7 +121,7 @@ public class Boss extends FighterPlane {
             movePattern.add(-VERTICAL_VELOCITY);
             movePattern.add(ZERO);
         }
-        Collections.shuffle(movePattern);
+        Collections.shuffle(movePattern, getRandomGenerator());
     }
 
     /**
@@ -121,14 +135,15 @@ public class Boss extends FighterPlane {
 
     /**
      * Determines the next move for the boss based on its move pattern.
+     * Package-private so the benchmarks can measure it in isolation.
      *
      * @return the velocity for the next move.
      */
-    private int getNextMove() {
+    int getNextMove() {
         int currentMove = movePattern.get(indexOfCurrentMove);
         consecutiveMovesInSameDirection++;
         if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
+            Collections.shuffle(movePattern, getRandomGenerator());
             consecutiveMovesInSameDirection = 0;
             indexOfCurrentMove++;
         }
@@ -144,7 +159,7 @@ public class Boss extends FighterPlane {
      * @return {@code true} if the boss fires a projectile; {@code false} otherwise.
      */
     private boolean bossFiresInCurrentFrame() {
-        return Math.random() < BOSS_FIRE_RATE;
+        return getRandomGenerator().nextDouble() < BOSS_FIRE_RATE;
     }
 
     /**
@@ -153,7 +168,7 @@ public class Boss extends FighterPlane {
      * @return the Y-coordinate for the projectile's initial position.
      */
     private double getProjectileInitialPosition() {
-        return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+        return getMinY() + PROJECTILE_Y_POSITION_OFFSET;
     }
 
     /**
@@ -162,7 +177,7 @@ public class Boss extends FighterPlane {
      * @return {@code true} if the shield should be activated; {@code false} otherwise.
      */
     private boolean shieldShouldBeActivated() {
-        return Math.random() < BOSS_SHIELD_PROBABILITY;
+        return getRandomGenerator().nextDouble() < BOSS_SHIELD_PROBABILITY;
     }
 
     /**
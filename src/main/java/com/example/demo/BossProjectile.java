@@ -7,16 +7,16 @@ package com.example.demo;
 public class BossProjectile extends Projectile {
 	
 	/** Path to the image representing the Boss projectile. */
-	private static final String IMAGE_NAME = "fireball.png";
+	static final String IMAGE_NAME = "fireball.png";
 	
 	/** Height of the Boss projectile image. */
-	private static final int IMAGE_HEIGHT = 75;
+	static final int IMAGE_HEIGHT = 75;
 	
 	/** Horizontal velocity of the Boss projectile. */
 	private static final int HORIZONTAL_VELOCITY = -15;
 	
 	/** Initial X-coordinate position of the Boss projectile. */
-	private static final int INITIAL_X_POSITION = 950;
+	static final int INITIAL_X_POSITION = 950;
 
 	/**
 	 * Constructs a new {@code BossProjectile} with the specified initial Y-coordinate position.
@@ -25,6 +25,7 @@ public class BossProjectile extends Projectile {
 	 */
 	public BossProjectile(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
@@ -32,7 +33,7 @@ public class BossProjectile extends Projectile {
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveByVelocity();
 	}
 	
 	/**
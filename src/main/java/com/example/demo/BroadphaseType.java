@@ -0,0 +1,60 @@
+package com.example.demo;
+
+import java.util.Locale;
+
+/**
+ * The {@code BroadphaseType} enum lists the collision broadphases a level can use.
+ * <p>
+ * The broadphase is chosen at launch with the {@code skybattle.broadphase} system property, set
+ * either directly or through the game's {@code --broadphase=<name>} argument. Every broadphase
+ * reports all overlapping pairs and the narrow phase is the same, so the choice only affects speed.
+ * </p>
+ */
+public enum BroadphaseType {
+
+    /** A uniform grid over the playfield, see {@link SpatialHashBroadphase}. */
+    SPATIAL_HASH,
+
+    /** Actors kept sorted along the X axis and swept, see {@link SweepAndPruneBroadphase}. */
+    SWEEP_AND_PRUNE,
+
+    /** Every pair tested, see {@link NestedLoopBroadphase}. */
+    NESTED_LOOP;
+
+    /** The name of the system property selecting the broadphase. */
+    public static final String PROPERTY = "skybattle.broadphase";
+
+    /** The width and height of one spatial hash cell. */
+    private static final double CELL_SIZE = 128;
+
+    /**
+     * Returns the broadphase named by the {@code skybattle.broadphase} system property, or
+     * {@link #SPATIAL_HASH} if it is not set. Names are case-insensitive, and dashes may be used
+     * in place of underscores, as in {@code sweep-and-prune}.
+     *
+     * @return the selected broadphase
+     * @throws IllegalArgumentException if the property names no broadphase
+     */
+    public static BroadphaseType fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return SPATIAL_HASH;
+        }
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Creates a broadphase of this type for a playfield of the given size.
+     *
+     * @param width the width of the playfield
+     * @param height the height of the playfield
+     * @return the new broadphase
+     */
+    public CollisionBroadphase create(double width, double height) {
+        return switch (this) {
+            case SPATIAL_HASH -> new SpatialHashBroadphase(width, height, CELL_SIZE);
+            case SWEEP_AND_PRUNE -> new SweepAndPruneBroadphase();
+            case NESTED_LOOP -> new NestedLoopBroadphase();
+        };
+    }
+}
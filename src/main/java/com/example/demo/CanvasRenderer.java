@@ -0,0 +1,134 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * The {@code CanvasRenderer} class draws every actor onto a single {@link Canvas} with
+ * {@link GraphicsContext#drawImage}, instead of giving each actor its own scene-graph node.
+ * <p>
+ * Actors are drawn in the order they entered play, matching the stacking of the scene-graph
+ * renderer. Each actor's region of the {@link TextureAtlas} is looked up once when it is added,
+ * so a frame is one clear followed by one draw per live actor, all from the same pre-scaled
+ * texture. Sprites missing from the atlas are drawn from {@link AssetCache} instead. The canvas
+ * holds no per-actor resources, so pooled and discarded actors are removed the same way.
+ * </p>
+ */
+public class CanvasRenderer implements LevelRenderer {
+
+    /**
+     * An actor in play together with the image and source region it is drawn from.
+     *
+     * @param actor the actor
+     * @param image the atlas, or the actor's own image if it is not packed
+     * @param source the region of the image holding the actor's sprite
+     */
+    private record Sprite(ActiveActor actor, Image image, Rectangle2D source) {
+    }
+
+    private final TextureAtlas atlas;
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final List<Sprite> sprites;
+    private final Set<ActiveActor> actorsToRemove;
+
+    /**
+     * Constructs a {@code CanvasRenderer} with a canvas of the given size, added to the given layer.
+     *
+     * @param layer the group holding the canvas
+     * @param width the width of the canvas
+     * @param height the height of the canvas
+     */
+    public CanvasRenderer(Group layer, double width, double height) {
+        this.atlas = TextureAtlas.getDefault();
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.sprites = new ArrayList<>();
+        this.actorsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        layer.getChildren().add(canvas);
+    }
+
+    /**
+     * Starts drawing an actor. An actor removed earlier in the same tick is simply kept.
+     *
+     * @param actor the actor to draw
+     */
+    @Override
+    public void addActor(ActiveActor actor) {
+        if (!actorsToRemove.remove(actor)) {
+            sprites.add(createSprite(actor));
+        }
+    }
+
+    /**
+     * Queues an actor to stop being drawn at the next {@link #flushRemovals()}.
+     *
+     * @param actor the actor to stop drawing
+     * @param keepForReuse ignored, as the canvas keeps nothing per actor
+     */
+    @Override
+    public void removeActor(ActiveActor actor, boolean keepForReuse) {
+        actorsToRemove.add(actor);
+    }
+
+    /**
+     * Drops every queued actor from the draw list in a single pass.
+     */
+    @Override
+    public void flushRemovals() {
+        if (!actorsToRemove.isEmpty()) {
+            sprites.removeIf(sprite -> actorsToRemove.contains(sprite.actor()));
+            actorsToRemove.clear();
+        }
+    }
+
+    /**
+     * Clears the canvas and draws every actor at its interpolated position.
+     *
+     * @param alpha the interpolation factor between the previous and current simulation steps
+     */
+    @Override
+    public void render(double alpha) {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0, size = sprites.size(); i < size; i++) {
+            Sprite sprite = sprites.get(i);
+            ActiveActor actor = sprite.actor();
+            Rectangle2D source = sprite.source();
+            graphics.drawImage(sprite.image(), source.getMinX(), source.getMinY(), source.getWidth(), source.getHeight(),
+                    actor.getInterpolatedX(alpha), actor.getInterpolatedY(alpha), actor.getWidth(), actor.getHeight());
+        }
+    }
+
+    /**
+     * Clears the canvas and forgets every actor and the images they were drawn from.
+     */
+    @Override
+    public void dispose() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        sprites.clear();
+        actorsToRemove.clear();
+    }
+
+    /**
+     * Looks up the image and region an actor is drawn from.
+     *
+     * @param actor the actor
+     * @return the actor's sprite
+     */
+    private Sprite createSprite(ActiveActor actor) {
+        Rectangle2D region = atlas.getRegion(actor.getImagePath(), actor.getHeight());
+        if (region != null) {
+            return new Sprite(actor, atlas.getImage(), region);
+        }
+        Image image = AssetCache.getImage(actor.getImagePath(), actor.getHeight());
+        return new Sprite(actor, image, new Rectangle2D(0, 0, image.getWidth(), image.getHeight()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@code CollisionBatchEvent} class is a Flight Recorder event covering one collision pass
+ * between two groups of actors, with the number of pairs the broadphase produced and the number
+ * that actually collided.
+ */
+@Name("com.example.demo.CollisionBatch")
+@Label("Collision Batch")
+@Category({"Sky Battle", "Simulation"})
+@Description("One collision pass between two groups of actors")
+@StackTrace(false)
+final class CollisionBatchEvent extends Event {
+
+    @Label("Batch")
+    String batch;
+
+    @Label("First Group Size")
+    int firstCount;
+
+    @Label("Second Group Size")
+    int secondCount;
+
+    @Label("Candidate Pairs")
+    @Description("Pairs produced by the broadphase and tested for overlap")
+    int candidatePairs;
+
+    @Label("Collisions")
+    int collisions;
+}
@@ -0,0 +1,24 @@
+package com.example.demo;
+
+/**
+ * The {@code CollisionBroadphase} interface defines the first, coarse stage of collision detection.
+ * <p>
+ * A broadphase reduces the pairs of actors that need an exact (narrow-phase) overlap test by
+ * discarding pairs that cannot possibly collide. Implementations may report pairs that do not
+ * actually overlap, but must never omit a pair that does at any point during the current step, so
+ * they place every actor by the box it sweeps from its previous position to its current one.
+ * </p>
+ */
+public interface CollisionBroadphase {
+
+	/**
+	 * Visits every pair of actors, one from each store, that may be colliding.
+	 * Each candidate pair is passed to the handler at most once per call.
+	 *
+	 * @param firstActors the first store of actors
+	 * @param secondActors the second store of actors
+	 * @param pairHandler the handler receiving each candidate pair, first actor first
+	 */
+	void findCandidatePairs(EntityStore firstActors, EntityStore secondActors, CollisionPairHandler pairHandler);
+
+}
@@ -0,0 +1,21 @@
+package com.example.demo;
+
+/**
+ * The {@code CollisionPairHandler} interface receives the candidate pairs found by a
+ * {@link CollisionBroadphase}, as slots in the two entity stores being collided, so a pair can be
+ * tested on the stores' arrays before any actor is touched.
+ */
+@FunctionalInterface
+public interface CollisionPairHandler {
+
+	/**
+	 * Handles one candidate pair.
+	 *
+	 * @param first the first store
+	 * @param firstSlot the slot of the actor in the first store
+	 * @param second the second store
+	 * @param secondSlot the slot of the actor in the second store
+	 */
+	void handlePair(EntityStore first, int firstSlot, EntityStore second, int secondSlot);
+
+}
@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-
 /**
  * The {@code EnemyPlane} class represents an enemy aircraft in the game. It extends the {@link FighterPlane} class
  * and includes functionality for movement, firing projectiles, and difficulty scaling.
@@ -9,7 +7,10 @@ import javafx.scene.image.Image;
 public class EnemyPlane extends FighterPlane {
 	
 	/** Height of the enemy plane image. */
-	private static final int IMAGE_HEIGHT = 150;
+	static final int IMAGE_HEIGHT = 150;
+
+	/** Name of the image file used when no other image is given. */
+	static final String DEFAULT_IMAGE_NAME = "enemyplane.png";
 	
 	/** Horizontal velocity of the enemy plane. */
 	private static final int HORIZONTAL_VELOCITY = -6;
@@ -38,8 +39,9 @@ public class EnemyPlane extends FighterPlane {
 	 * @param imageName the name of the image file for the enemy plane
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos, double difficultyFactor, String imageName) {
-		super(new Image(EnemyPlane.class.getResourceAsStream("/com/example/demo/images/" + imageName)), IMAGE_HEIGHT, initialXPos, initialYPos, (int) (INITIAL_HEALTH * difficultyFactor));
+		super(AssetCache.IMAGE_DIRECTORY + imageName, IMAGE_HEIGHT, initialXPos, initialYPos, (int) (INITIAL_HEALTH * difficultyFactor));
 		this.difficultyFactor = difficultyFactor;
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
@@ -51,7 +53,7 @@ public class EnemyPlane extends FighterPlane {
 	 * @param difficultyFactor the difficulty factor affecting health and fire rate
 	 */
 	public EnemyPlane(double initialXPos, double initialYPos, double difficultyFactor) {
-		this(initialXPos, initialYPos, difficultyFactor, "enemyplane.png");
+		this(initialXPos, initialYPos, difficultyFactor, DEFAULT_IMAGE_NAME);
 	}
 
 	/**
@@ -68,21 +70,21 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveByVelocity();
 	}
 
 	/**
 	 * Fires a projectile from the enemy plane if the random fire rate condition is met.
 	 *
-	 * @return a new {@link EnemyProjectile} if fired, or {@code null} otherwise
+	 * @return a pooled {@link EnemyProjectile} if fired, or {@code null} otherwise
 	 */
 	@Override
 	public ActiveActorDestructible fireProjectile() {
 		double adjustedFireRate = BASE_FIRE_RATE * getDifficultyFactor();
-		if (Math.random() < adjustedFireRate) {
+		if (getRandomGenerator().nextDouble() < adjustedFireRate) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
+			return getProjectilePools().getEnemyProjectilePool().acquire(projectileXPosition, projectileYPostion);
 		}
 		return null;
 	}
@@ -94,4 +96,14 @@ public class EnemyPlane extends FighterPlane {
 	public void updateActor() {
 		updatePosition();
 	}
+
+	/**
+	 * Enemy planes only fly left at a constant speed, so the level moves them in bulk.
+	 *
+	 * @return {@code true}
+	 */
+	@Override
+	protected boolean isKinematic() {
+		return true;
+	}
 }
@@ -7,10 +7,10 @@ package com.example.demo;
 public class EnemyProjectile extends Projectile {
 	
 	/** The image file name for the enemy projectile. */
-	private static final String IMAGE_NAME = "enemyFire.png";
+	static final String IMAGE_NAME = "enemyFire.png";
 	
 	/** The height of the enemy projectile image. */
-	private static final int IMAGE_HEIGHT = 50;
+	static final int IMAGE_HEIGHT = 50;
 	
 	/** The horizontal velocity of the enemy projectile. */
 	private static final int HORIZONTAL_VELOCITY = -10;
@@ -23,6 +23,7 @@ public class EnemyProjectile extends Projectile {
 	 */
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
@@ -30,7 +31,7 @@ public class EnemyProjectile extends Projectile {
 	 */
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveByVelocity();
 	}
 
 	/**
@@ -0,0 +1,354 @@
+package com.example.demo;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code EntityStore} class holds the simulation state of one group of actors, such as a
+ * level's enemy planes, as a structure of primitive arrays with one slot per actor, so the
+ * per-step passes run as linear loops over memory instead of chasing actor references.
+ * <p>
+ * An actor added to a store moves its position, velocity, health and destroyed flag into its slot,
+ * and its accessors read and write the slot from then on; when it is removed the state is copied
+ * back into the actor. Slots stay in the order actors were added, so passes visit actors in the
+ * same order as the lists they replace. The level moves actors in {@link #integrate()}, culls them in
+ * {@link #destroyOutOfBounds(double, double, double)}, collides whole stores through its
+ * {@link CollisionBroadphase}, and compacts them in {@link #removeDestroyed(Consumer)}, which skips
+ * straight past the survivors using the destroyed bitset. Only actors with their own behaviour are
+ * visited one by one, through {@link ActiveActorDestructible#updateActor()}.
+ * </p>
+ * <p>
+ * Every actor in a store belongs to the same faction. The arrays are package-private so the level,
+ * its actors and its broadphases can read them directly, all on the simulating thread.
+ * </p>
+ */
+public final class EntityStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    double[] previousX = new double[INITIAL_CAPACITY];
+    double[] previousY = new double[INITIAL_CAPACITY];
+    double[] velocityX = new double[INITIAL_CAPACITY];
+    double[] velocityY = new double[INITIAL_CAPACITY];
+    double[] width = new double[INITIAL_CAPACITY];
+    double[] height = new double[INITIAL_CAPACITY];
+    int[] health = new int[INITIAL_CAPACITY];
+
+    /** The collision mask of each slot's sprite. */
+    CollisionMask[] masks = new CollisionMask[INITIAL_CAPACITY];
+
+    /** Whether each slot's actor does nothing each step but move by its velocity. */
+    boolean[] kinematic = new boolean[INITIAL_CAPACITY];
+
+    /** Slots whose actor has been destroyed and awaits removal. */
+    final BitSet destroyed = new BitSet(INITIAL_CAPACITY);
+
+    private final boolean friendly;
+    private final List<ActiveActorDestructible> view = new ActorListView();
+    private int count;
+
+    /**
+     * Constructs an empty {@code EntityStore} for actors of one faction.
+     *
+     * @param friendly whether the actors fight on the player's side
+     */
+    public EntityStore(boolean friendly) {
+        this.friendly = friendly;
+    }
+
+    /**
+     * Returns whether the actors in this store fight on the player's side.
+     *
+     * @return {@code true} for the player's faction
+     */
+    public boolean isFriendly() {
+        return friendly;
+    }
+
+    /**
+     * Appends an actor to the store, moving its state into a new slot.
+     *
+     * @param actor the actor to add
+     * @throws IllegalStateException if the actor already belongs to a store
+     */
+    public void add(ActiveActorDestructible actor) {
+        if (actor.getStore() != null) {
+            throw new IllegalStateException("Actor already belongs to an entity store: " + actor);
+        }
+        ensureCapacity(count + 1);
+        int slot = count++;
+        actors[slot] = actor;
+        width[slot] = actor.getWidth();
+        height[slot] = actor.getHeight();
+        health[slot] = 0;
+        masks[slot] = actor.getCollisionMask();
+        kinematic[slot] = actor.isKinematic();
+        actor.moveInto(this, slot);
+    }
+
+    /**
+     * Returns the actor in a slot.
+     *
+     * @param slot the slot
+     * @return the actor
+     */
+    public ActiveActorDestructible get(int slot) {
+        return actors[slot];
+    }
+
+    /**
+     * Returns the number of actors in the store.
+     *
+     * @return the actor count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns whether the store holds no actors.
+     *
+     * @return {@code true} if the store is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns a read-only list view of the actors, in slot order. The view is live and does not allocate.
+     *
+     * @return the actors
+     */
+    public List<ActiveActorDestructible> asList() {
+        return view;
+    }
+
+    /**
+     * Passes every actor to the consumer, in slot order.
+     *
+     * @param action receives each actor
+     */
+    public void forEach(Consumer<? super ActiveActorDestructible> action) {
+        for (int slot = 0; slot < count; slot++) {
+            action.accept(actors[slot]);
+        }
+    }
+
+    /**
+     * Records every actor's position as the start of a new simulation step.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+    }
+
+    /**
+     * Moves every actor by its velocity. Actors that move themselves keep a zero velocity.
+     */
+    public void integrate() {
+        for (int slot = 0; slot < count; slot++) {
+            x[slot] += velocityX[slot];
+            y[slot] += velocityY[slot];
+        }
+    }
+
+    /**
+     * Updates every actor that is not kinematic, in slot order.
+     */
+    public void updateScriptedActors() {
+        for (int slot = 0; slot < count; slot++) {
+            if (!kinematic[slot]) {
+                actors[slot].updateActor();
+            }
+        }
+    }
+
+    /**
+     * Destroys every actor lying entirely outside the playfield extended by a margin on every side.
+     *
+     * @param screenWidth the width of the playfield
+     * @param screenHeight the height of the playfield
+     * @param margin the distance beyond the playfield edges an actor may travel
+     */
+    public void destroyOutOfBounds(double screenWidth, double screenHeight, double margin) {
+        for (int slot = 0; slot < count; slot++) {
+            if (x[slot] + width[slot] < -margin || x[slot] > screenWidth + margin
+                    || y[slot] + height[slot] < -margin || y[slot] > screenHeight + margin) {
+                destroyed.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bounding boxes of an actor in this store and an actor in another overlap.
+     *
+     * @param slot the slot of the actor in this store
+     * @param other the other store
+     * @param otherSlot the slot of the actor in the other store
+     * @return {@code true} if the actors collide
+     */
+    public boolean overlaps(int slot, EntityStore other, int otherSlot) {
+        return x[slot] < other.x[otherSlot] + other.width[otherSlot] && other.x[otherSlot] < x[slot] + width[slot]
+                && y[slot] < other.y[otherSlot] + other.height[otherSlot] && other.y[otherSlot] < y[slot] + height[slot];
+    }
+
+    /**
+     * Returns whether an actor in this store and an actor in another overlap at any point during the
+     * current simulation step, each moving in a straight line from its previous position. This is the
+     * array form of {@link ActiveActorDestructible#collidesWithinStep}.
+     *
+     * @param slot the slot of the actor in this store
+     * @param other the other store
+     * @param otherSlot the slot of the actor in the other store
+     * @return {@code true} if the actors collide during the step
+     */
+    public boolean sweptOverlaps(int slot, EntityStore other, int otherSlot) {
+        return ActiveActorDestructible.sweptBoxesOverlap(previousX[slot], previousY[slot], x[slot], y[slot],
+                width[slot], height[slot], other.previousX[otherSlot], other.previousY[otherSlot],
+                other.x[otherSlot], other.y[otherSlot], other.width[otherSlot], other.height[otherSlot]);
+    }
+
+    /**
+     * Returns whether an actor in this store and an actor in another collide during the current
+     * simulation step: their swept bounding boxes overlap, and so do their collision masks at some
+     * point along their motion. This is the array form of {@link ActiveActorDestructible#collidesWithinStep}.
+     *
+     * @param slot the slot of the actor in this store
+     * @param other the other store
+     * @param otherSlot the slot of the actor in the other store
+     * @return {@code true} if the actors collide during the step
+     */
+    public boolean collides(int slot, EntityStore other, int otherSlot) {
+        return sweptOverlaps(slot, other, otherSlot)
+                && CollisionMask.overlapDuringStep(masks[slot], previousX[slot], previousY[slot], x[slot], y[slot],
+                        other.masks[otherSlot], other.previousX[otherSlot], other.previousY[otherSlot],
+                        other.x[otherSlot], other.y[otherSlot]);
+    }
+
+    /**
+     * Returns whether any actor in the store has been destroyed and not yet removed.
+     *
+     * @return {@code true} if at least one actor awaits removal
+     */
+    public boolean hasDestroyed() {
+        return !destroyed.isEmpty();
+    }
+
+    /**
+     * Removes every destroyed actor, keeping the survivors in order. Each removed actor has its state
+     * copied back and is then passed to the consumer, which must not modify this store. Runs of
+     * survivors between destroyed actors are moved down with one array copy per column.
+     *
+     * @param onRemoved receives each removed actor
+     */
+    public void removeDestroyed(Consumer<? super ActiveActorDestructible> onRemoved) {
+        int removed = destroyed.nextSetBit(0);
+        if (removed < 0) {
+            return;
+        }
+        int write = removed;
+        while (removed >= 0) {
+            ActiveActorDestructible actor = actors[removed];
+            actor.moveOutOf(this, removed);
+            onRemoved.accept(actor);
+            int runStart = removed + 1;
+            int nextRemoved = destroyed.nextSetBit(runStart);
+            int runEnd = nextRemoved < 0 ? count : nextRemoved;
+            int runLength = runEnd - runStart;
+            if (runLength > 0) {
+                moveSlots(runStart, write, runLength);
+                write += runLength;
+            }
+            removed = nextRemoved;
+        }
+        Arrays.fill(actors, write, count, null);
+        destroyed.clear();
+        count = write;
+    }
+
+    /**
+     * Moves every actor out of the store, leaving it empty.
+     */
+    public void clear() {
+        for (int slot = 0; slot < count; slot++) {
+            actors[slot].moveOutOf(this, slot);
+            actors[slot] = null;
+        }
+        destroyed.clear();
+        count = 0;
+    }
+
+    /**
+     * Moves a run of slots down to a lower position and tells each moved actor its new slot.
+     *
+     * @param from the first slot of the run
+     * @param to the slot the run moves to
+     * @param length the number of slots in the run
+     */
+    private void moveSlots(int from, int to, int length) {
+        System.arraycopy(actors, from, actors, to, length);
+        System.arraycopy(x, from, x, to, length);
+        System.arraycopy(y, from, y, to, length);
+        System.arraycopy(previousX, from, previousX, to, length);
+        System.arraycopy(previousY, from, previousY, to, length);
+        System.arraycopy(velocityX, from, velocityX, to, length);
+        System.arraycopy(velocityY, from, velocityY, to, length);
+        System.arraycopy(width, from, width, to, length);
+        System.arraycopy(height, from, height, to, length);
+        System.arraycopy(health, from, health, to, length);
+        System.arraycopy(masks, from, masks, to, length);
+        System.arraycopy(kinematic, from, kinematic, to, length);
+        for (int slot = to; slot < to + length; slot++) {
+            actors[slot].setSlot(slot);
+        }
+    }
+
+    /**
+     * Grows every column to hold at least the given number of slots.
+     *
+     * @param capacity the required number of slots
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= actors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, actors.length * 2);
+        actors = Arrays.copyOf(actors, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        velocityX = Arrays.copyOf(velocityX, newCapacity);
+        velocityY = Arrays.copyOf(velocityY, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        health = Arrays.copyOf(health, newCapacity);
+        masks = Arrays.copyOf(masks, newCapacity);
+        kinematic = Arrays.copyOf(kinematic, newCapacity);
+    }
+
+    /**
+     * A read-only list over the store's actors.
+     */
+    private final class ActorListView extends AbstractList<ActiveActorDestructible> {
+
+        @Override
+        public ActiveActorDestructible get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return actors[index];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;        
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code FighterPlane} class serves as an abstract base class for different types of fighter planes.
@@ -9,27 +9,34 @@ import javafx.scene.image.Image;
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
-    /** The health of the fighter plane. */
+    /** The health of the fighter plane while it is out of play; in play, it lives in the entity store. */
     private int health;
 
+    /** The pools the fighter plane acquires its projectiles from. */
+    private ProjectilePools projectilePools;
+
+    /** The generator behind the fighter plane's random decisions. */
+    private RandomGenerator random;
+
     /**
-     * Constructs a new {@code FighterPlane} with the specified image, size, position, and health.
+     * Constructs a new {@code FighterPlane} with the specified sprite, size, position, and health.
      *
-     * @param image the {@link Image} representing the fighter plane
+     * @param imagePath the classpath resource path of the sprite representing the fighter plane
      * @param imageHeight the height of the fighter plane image
      * @param initialXPos the initial X-coordinate position of the fighter plane
      * @param initialYPos the initial Y-coordinate position of the fighter plane
      * @param health the initial health of the fighter plane
      */
-    public FighterPlane(Image image, int imageHeight, double initialXPos, double initialYPos, int health) {
-        super(image, imageHeight, initialXPos, initialYPos);
+    public FighterPlane(String imagePath, int imageHeight, double initialXPos, double initialYPos, int health) {
+        super(imagePath, imageHeight, initialXPos, initialYPos);
         this.health = health;
     }
 
     /**
-     * Abstract method to fire a projectile. Subclasses must implement the logic for creating a projectile.
+     * Abstract method to fire a projectile. Subclasses must implement the logic for acquiring a projectile
+     * from their {@link ProjectilePools}.
      *
-     * @return a new {@link ActiveActorDestructible} projectile
+     * @return a live {@link ActiveActorDestructible} projectile, or {@code null} if none is fired
      */
     public abstract ActiveActorDestructible fireProjectile();
 
@@ -38,12 +45,63 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      */
     @Override
     public void takeDamage() {
-        health--;
+        EntityStore store = getStore();
+        if (store != null) {
+            store.health[getSlot()]--;
+        } else {
+            health--;
+        }
         if (healthAtZero()) {
             this.destroy();
         }
     }
 
+    /**
+     * Sets the pools the fighter plane acquires its projectiles from. Levels share one set of
+     * pools between all of their planes.
+     *
+     * @param projectilePools the projectile pools to use
+     */
+    public void setProjectilePools(ProjectilePools projectilePools) {
+        this.projectilePools = projectilePools;
+    }
+
+    /**
+     * Returns the pools the fighter plane acquires its projectiles from, creating a private set
+     * if none has been assigned.
+     *
+     * @return the projectile pools
+     */
+    protected ProjectilePools getProjectilePools() {
+        if (projectilePools == null) {
+            projectilePools = new ProjectilePools();
+        }
+        return projectilePools;
+    }
+
+    /**
+     * Sets the generator behind the fighter plane's random decisions. Levels share their own
+     * seeded generator with all of their planes, so a seed always replays the same game.
+     *
+     * @param random the random number generator to use
+     */
+    public void setRandomGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the generator behind the fighter plane's random decisions, creating a private one
+     * from the default seed if none has been assigned.
+     *
+     * @return the random number generator
+     */
+    protected RandomGenerator getRandomGenerator() {
+        if (random == null) {
+            random = GameRandom.create(GameRandom.defaultSeed());
+        }
+        return random;
+    }
+
     /**
      * Calculates the X-coordinate position for a projectile based on the fighter plane's position and an offset.
      *
@@ -51,7 +109,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the X-coordinate position for the projectile
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset;
+        return getMinX() + xPositionOffset;
     }
 
     /**
@@ -61,7 +119,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the Y-coordinate position for the projectile
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset;
+        return getMinY() + yPositionOffset;
     }
 
     /**
@@ -70,7 +128,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return {@code true} if health is zero, otherwise {@code false}
      */
     private boolean healthAtZero() {
-        return health == 0;
+        return getHealth() == 0;
     }
 
     /**
@@ -79,7 +137,20 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the current health
      */
     public int getHealth() {
-        return health;
+        EntityStore store = getStore();
+        return store != null ? store.health[getSlot()] : health;
+    }
+
+    @Override
+    void moveInto(EntityStore entityStore, int entitySlot) {
+        super.moveInto(entityStore, entitySlot);
+        entityStore.health[entitySlot] = health;
     }
-        
+
+    @Override
+    void moveOutOf(EntityStore entityStore, int entitySlot) {
+        health = entityStore.health[entitySlot];
+        super.moveOutOf(entityStore, entitySlot);
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+import javafx.animation.AnimationTimer;
+
+/**
+ * The {@code GameLoop} class drives a level with a fixed simulation step on the JavaFX pulse.
+ * <p>
+ * Every pulse adds the elapsed time to an accumulator and runs as many fixed-length simulation
+ * steps as fit into it, up to a catch-up limit. The remainder is passed to the render callback
+ * as an interpolation factor, so rendering runs at the display rate while the simulation
+ * always advances in identical steps. When the FX thread stalls for longer than the catch-up
+ * limit allows, the excess time is dropped instead of being replayed in a burst.
+ * </p>
+ */
+public class GameLoop extends AnimationTimer {
+
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+    private final Runnable simulationStep;
+    private final DoubleConsumer renderer;
+
+    private long lastPulseNanos;
+    private long accumulatedNanos;
+    private long tickCount;
+    private boolean running;
+
+    /**
+     * Constructs a {@code GameLoop} with the given step length and callbacks.
+     *
+     * @param stepMillis the length of one simulation step in milliseconds
+     * @param maxStepsPerFrame the maximum number of simulation steps run in a single pulse
+     * @param simulationStep advances the simulation by one step
+     * @param renderer draws the current state, given the interpolation factor between the
+     *                 previous and current simulation steps
+     */
+    public GameLoop(long stepMillis, int maxStepsPerFrame, Runnable simulationStep, DoubleConsumer renderer) {
+        this.stepNanos = stepMillis * NANOS_PER_MILLISECOND;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.simulationStep = simulationStep;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Starts the loop. The first pulse after starting only records the time, so no time spent
+     * while the loop was stopped is simulated.
+     */
+    @Override
+    public void start() {
+        lastPulseNanos = -1;
+        accumulatedNanos = 0;
+        running = true;
+        super.start();
+    }
+
+    /**
+     * Stops the loop. A simulation step that stops the loop is the last one run in its pulse.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Runs the simulation steps that are due and renders the interpolated state.
+     *
+     * @param now the timestamp of the current pulse in nanoseconds
+     */
+    @Override
+    public void handle(long now) {
+        if (lastPulseNanos < 0) {
+            lastPulseNanos = now;
+            return;
+        }
+        accumulatedNanos += now - lastPulseNanos;
+        lastPulseNanos = now;
+
+        int steps = 0;
+        while (running && accumulatedNanos >= stepNanos && steps < maxStepsPerFrame) {
+            simulationStep.run();
+            accumulatedNanos -= stepNanos;
+            tickCount++;
+            steps++;
+        }
+        if (accumulatedNanos >= stepNanos) {
+            // Too far behind to catch up: drop the backlog rather than spiral.
+            accumulatedNanos %= stepNanos;
+        }
+        renderer.accept((double) accumulatedNanos / stepNanos);
+    }
+
+    /**
+     * Returns the number of simulation steps run since the loop was created.
+     *
+     * @return the simulation tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns whether the loop is currently running.
+     *
+     * @return {@code true} if the loop is running; {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,7 +10,7 @@ import javafx.scene.image.ImageView;
 public class GameOverImage extends ImageView {
 	
 	/** The file path of the "Game Over" image. */
-	private static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
+	static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
 
 	/**
 	 * Constructs a new {@code GameOverImage} object and sets its position on the screen.
@@ -20,7 +19,7 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the Y-coordinate position of the image
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(AssetCache.getImage(IMAGE_NAME));
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
 	}
@@ -0,0 +1,47 @@
+package com.example.demo;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The {@code GameRandom} class creates the random number generators used by the simulation.
+ * <p>
+ * Each level owns one seeded, splittable generator which it shares with all of its actors, so
+ * a given seed always plays out the same game and parallel simulations never contend for a
+ * shared generator. The seed comes from the {@code skybattle.seed} system property when it is
+ * set, and is otherwise chosen at random.
+ * </p>
+ */
+public final class GameRandom {
+
+    /** The name of the generator algorithm, a fast splittable LXM generator. */
+    public static final String ALGORITHM = "L64X128MixRandom";
+
+    private static final String SEED_PROPERTY = "skybattle.seed";
+    private static final RandomGeneratorFactory<SplittableGenerator> FACTORY = RandomGeneratorFactory.of(ALGORITHM);
+
+    private GameRandom() {
+    }
+
+    /**
+     * Creates a generator that always produces the same sequence for the same seed.
+     *
+     * @param seed the seed
+     * @return a new generator
+     */
+    public static SplittableGenerator create(long seed) {
+        return FACTORY.create(seed);
+    }
+
+    /**
+     * Returns the seed for a game that was not given one explicitly: the value of the
+     * {@code skybattle.seed} system property if set, otherwise a random seed.
+     *
+     * @return the default seed
+     */
+    public static long defaultSeed() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+}
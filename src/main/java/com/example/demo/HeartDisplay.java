@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -11,10 +10,10 @@ import javafx.scene.layout.HBox;
 public class HeartDisplay {
 	
 	/** The file path of the heart image. */
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
 	
 	/** The height of each heart image. */
-	private static final int HEART_HEIGHT = 50;
+	static final int HEART_HEIGHT = 50;
 	
 	/** The index of the first item in the container. */
 	private static final int INDEX_OF_FIRST_ITEM = 0;
@@ -60,11 +59,37 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+			container.getChildren().add(createHeart());
+		}
+	}
 
-			heart.setFitHeight(HEART_HEIGHT);
-			heart.setPreserveRatio(true);
-			container.getChildren().add(heart);
+	/**
+	 * Creates one heart icon, drawn from the texture atlas.
+	 *
+	 * @return the heart icon
+	 */
+	private ImageView createHeart() {
+		TextureAtlas atlas = TextureAtlas.getDefault();
+		ImageView heart = new ImageView(atlas.getImage());
+		heart.setViewport(atlas.getRegion(HEART_IMAGE_NAME, HEART_HEIGHT));
+		heart.setFitHeight(HEART_HEIGHT);
+		heart.setPreserveRatio(true);
+		return heart;
+	}
+
+	/**
+	 * Shows the given number of hearts, at most the number displayed initially, removing hearts
+	 * from the left or adding them back on the right. Callers only call this when the count changes.
+	 *
+	 * @param heartCount the number of hearts to show
+	 */
+	public void showHearts(int heartCount) {
+		int target = Math.max(0, Math.min(heartCount, numberOfHeartsToDisplay));
+		while (container.getChildren().size() > target) {
+			removeHeart();
+		}
+		while (container.getChildren().size() < target) {
+			container.getChildren().add(createHeart());
 		}
 	}
 		
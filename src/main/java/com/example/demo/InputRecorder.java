@@ -0,0 +1,194 @@
+package com.example.demo;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code InputRecorder} class writes a game session to a compact binary journal that
+ * {@link InputReplay} can play back step for step.
+ * <p>
+ * A journal starts with {@link #MAGIC} and {@link #VERSION}, followed by tagged records:
+ * </p>
+ * <ul>
+ *     <li>{@link #LEVEL_RECORD}: the level's class name (modified UTF-8) and seed, starting a new level;</li>
+ *     <li>{@link #COMMAND_RECORD}: the step the command was applied at and the command's code;</li>
+ *     <li>{@link #STATE_HASH_RECORD}: the step and the level's {@link LevelParent#getStateHash() state hash}
+ *     at the end of that step.</li>
+ * </ul>
+ * <p>
+ * Steps are written as unsigned variable-length deltas from the previous record of the same level,
+ * so a command costs three bytes and a state hash ten. Records are buffered and flushed whenever
+ * a level ends, and the journal is closed when the JVM shuts down.
+ * </p>
+ */
+public final class InputRecorder implements Closeable {
+
+    /** The system property naming the journal the windowed game records to. */
+    public static final String PROPERTY = "skybattle.record";
+
+    /** The first four bytes of every journal: {@code "SKYJ"}. */
+    static final int MAGIC = 0x534B594A;
+
+    /** The journal format version. */
+    static final int VERSION = 1;
+
+    /** Tag of a record starting a new level. */
+    static final int LEVEL_RECORD = 1;
+
+    /** Tag of a record holding one player command. */
+    static final int COMMAND_RECORD = 2;
+
+    /** Tag of a record holding the state hash at the end of one step. */
+    static final int STATE_HASH_RECORD = 3;
+
+    private final DataOutputStream output;
+    private long lastTick;
+    private boolean closed;
+
+    /**
+     * Constructs an {@code InputRecorder} writing to the given stream and writes the journal header.
+     *
+     * @param output the stream the journal is written to
+     * @throws IOException if the header cannot be written
+     */
+    public InputRecorder(OutputStream output) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.output.writeInt(MAGIC);
+        this.output.writeByte(VERSION);
+    }
+
+    /**
+     * Opens a journal file, replacing any existing one, and closes it when the JVM shuts down.
+     *
+     * @param path the journal file
+     * @return the recorder writing to the file
+     * @throws IOException if the file cannot be created
+     */
+    public static InputRecorder open(Path path) throws IOException {
+        InputRecorder recorder = new InputRecorder(Files.newOutputStream(path));
+        Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "input-recorder-shutdown"));
+        return recorder;
+    }
+
+    /**
+     * Opens the journal named by the {@value #PROPERTY} system property.
+     *
+     * @return the recorder, or {@code null} if the property is not set
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    public static InputRecorder fromSystemProperty() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        try {
+            return open(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts recording a new level. Steps of the records that follow are counted from the level's first step.
+     *
+     * @param levelClassName the fully qualified class name of the level
+     * @param seed the seed of the level's random number generator
+     */
+    public synchronized void beginLevel(String levelClassName, long seed) {
+        try {
+            output.writeByte(LEVEL_RECORD);
+            output.writeUTF(levelClassName);
+            output.writeLong(seed);
+            lastTick = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records a command applied at the start of the given step.
+     *
+     * @param tick the step, counted from the level's first step
+     * @param command the command
+     */
+    public synchronized void recordCommand(long tick, PlayerCommand command) {
+        try {
+            output.writeByte(COMMAND_RECORD);
+            writeTick(tick);
+            output.writeByte(command.ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the level's state hash at the end of the given step.
+     *
+     * @param tick the step, counted from the level's first step
+     * @param hash the state hash
+     */
+    public synchronized void recordStateHash(long tick, long hash) {
+        try {
+            output.writeByte(STATE_HASH_RECORD);
+            writeTick(tick);
+            output.writeLong(hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes buffered records to the journal.
+     */
+    public synchronized void flush() {
+        if (closed) {
+            return;
+        }
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes and closes the journal. Closing an already closed recorder has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            output.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close input journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a step as an unsigned variable-length delta from the previous record's step.
+     *
+     * @param tick the step
+     * @throws IOException if the delta cannot be written
+     */
+    private void writeTick(long tick) throws IOException {
+        long delta = tick - lastTick;
+        if (delta < 0) {
+            throw new IllegalArgumentException("Steps must be recorded in order: " + tick + " after " + lastTick);
+        }
+        lastTick = tick;
+        while ((delta & ~0x7FL) != 0) {
+            output.writeByte((int) (delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        output.writeByte((int) delta);
+    }
+}
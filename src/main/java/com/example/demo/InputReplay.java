@@ -0,0 +1,388 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code InputReplay} class plays back a journal written by {@link InputRecorder}.
+ * <p>
+ * A level being replayed asks for the commands of each step instead of reading the keyboard, and
+ * compares its state hash at the end of each step with the recorded one. Since every random event is
+ * drawn from the level's seeded generator, a replay of an unchanged build reproduces the session
+ * exactly; the first step whose hash differs is reported as a {@link Divergence}.
+ * </p>
+ * <p>
+ * The whole journal is read into memory up front, and each level is played back with cursors
+ * that only move forward, so replaying a step does not allocate.
+ * </p>
+ */
+public final class InputReplay {
+
+    /** The system property naming the journal the windowed game replays. */
+    public static final String PROPERTY = "skybattle.replay";
+
+    private final List<LevelJournal> levels;
+    private int levelIndex = -1;
+    private int commandCursor;
+    private int hashCursor;
+    private Divergence divergence;
+
+    /**
+     * The first step at which a replayed level's state differed from the recording.
+     *
+     * @param levelClassName the class name of the level that diverged
+     * @param tick the step, counted from the level's first step
+     * @param detail what differed
+     */
+    public record Divergence(String levelClassName, long tick, String detail) {
+
+        @Override
+        public String toString() {
+            return levelClassName + " diverged at tick " + tick + ": " + detail;
+        }
+    }
+
+    /**
+     * The records of one level in a journal.
+     *
+     * @param levelClassName the class name of the level
+     * @param seed the seed of the level's random number generator
+     * @param commandTicks the step of each command, in order
+     * @param commands the command codes
+     * @param hashTicks the step of each state hash, in order
+     * @param hashes the state hashes
+     */
+    private record LevelJournal(String levelClassName, long seed, long[] commandTicks, byte[] commands,
+                                long[] hashTicks, long[] hashes) {
+
+        /**
+         * Returns the last step with a record.
+         *
+         * @return the last recorded step
+         */
+        long lastTick() {
+            long lastCommand = commandTicks.length == 0 ? 0 : commandTicks[commandTicks.length - 1];
+            long lastHash = hashTicks.length == 0 ? 0 : hashTicks[hashTicks.length - 1];
+            return Math.max(lastCommand, lastHash);
+        }
+    }
+
+    /**
+     * Reads a journal from the given stream.
+     *
+     * @param input the stream holding the journal
+     * @throws IOException if the stream cannot be read or does not hold a journal
+     */
+    public InputReplay(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != InputRecorder.MAGIC) {
+            throw new IOException("Not an input journal");
+        }
+        int version = data.readUnsignedByte();
+        if (version != InputRecorder.VERSION) {
+            throw new IOException("Unsupported input journal version: " + version);
+        }
+        this.levels = readLevels(data);
+        if (levels.isEmpty()) {
+            throw new IOException("Input journal holds no levels");
+        }
+    }
+
+    /**
+     * Reads a journal file.
+     *
+     * @param path the journal file
+     * @return the replay of the journal
+     * @throws IOException if the file cannot be read or does not hold a journal
+     */
+    public static InputReplay load(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return new InputReplay(input);
+        }
+    }
+
+    /**
+     * Reads the journal named by the {@value #PROPERTY} system property.
+     *
+     * @return the replay, or {@code null} if the property is not set
+     * @throws UncheckedIOException if the file cannot be read or does not hold a journal
+     */
+    public static InputReplay fromSystemProperty() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        try {
+            return load(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the class name of the first level in the journal.
+     *
+     * @return the first level's class name
+     */
+    public String getFirstLevelName() {
+        return levels.get(0).levelClassName();
+    }
+
+    /**
+     * Returns the seed of the first level in the journal, which determines the seeds of the rest.
+     *
+     * @return the first level's seed
+     */
+    public long getFirstSeed() {
+        return levels.get(0).seed();
+    }
+
+    /**
+     * Moves on to the next level in the journal. A level that does not match the recording is still
+     * played, without input, and reported as a divergence.
+     *
+     * @param levelClassName the class name of the level about to be replayed
+     * @param seed the seed of its random number generator
+     */
+    public void beginLevel(String levelClassName, long seed) {
+        levelIndex++;
+        commandCursor = 0;
+        hashCursor = 0;
+        LevelJournal level = currentLevel();
+        if (level == null) {
+            reportDivergence(new Divergence(levelClassName, 0, "the recording ended before this level"));
+        } else if (!level.levelClassName().equals(levelClassName) || level.seed() != seed) {
+            reportDivergence(new Divergence(levelClassName, 0,
+                    "recorded " + level.levelClassName() + " with seed " + level.seed() + ", replayed seed " + seed));
+        }
+    }
+
+    /**
+     * Passes every command recorded for the given step to the consumer, in recorded order.
+     *
+     * @param tick the step, counted from the level's first step
+     * @param consumer receives each command
+     */
+    public void forEachCommand(long tick, Consumer<PlayerCommand> consumer) {
+        LevelJournal level = currentLevel();
+        if (level == null) {
+            return;
+        }
+        long[] ticks = level.commandTicks();
+        while (commandCursor < ticks.length && ticks[commandCursor] < tick) {
+            commandCursor++;
+        }
+        while (commandCursor < ticks.length && ticks[commandCursor] == tick) {
+            consumer.accept(PlayerCommand.fromCode(level.commands()[commandCursor++]));
+        }
+    }
+
+    /**
+     * Compares the level's state hash at the end of a step with the recorded one. The first
+     * mismatch is kept and printed; later ones are ignored.
+     *
+     * @param tick the step, counted from the level's first step
+     * @param hash the level's state hash
+     * @return {@code false} if a hash was recorded for the step and differs
+     */
+    public boolean verifyStateHash(long tick, long hash) {
+        LevelJournal level = currentLevel();
+        if (level == null) {
+            return true;
+        }
+        long[] ticks = level.hashTicks();
+        while (hashCursor < ticks.length && ticks[hashCursor] < tick) {
+            hashCursor++;
+        }
+        if (hashCursor < ticks.length && ticks[hashCursor] == tick && level.hashes()[hashCursor] != hash) {
+            reportDivergence(new Divergence(level.levelClassName(), tick,
+                    String.format("expected state %016x, got %016x", level.hashes()[hashCursor], hash)));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the recording continues past the given step of the current level, either in
+     * the same level or in a later one.
+     *
+     * @param tick the step, counted from the current level's first step
+     * @return {@code true} if more of the session remains to be replayed
+     */
+    public boolean hasRemainingInput(long tick) {
+        LevelJournal level = currentLevel();
+        return level != null && (levelIndex < levels.size() - 1 || tick <= level.lastTick());
+    }
+
+    /**
+     * Returns the first divergence found, if any.
+     *
+     * @return the first divergence, or {@code null} if the replay has matched the recording so far
+     */
+    public Divergence getDivergence() {
+        return divergence;
+    }
+
+    /**
+     * Returns the number of levels replayed so far, including the current one.
+     *
+     * @return the replayed level count
+     */
+    public int getReplayedLevelCount() {
+        return Math.min(levelIndex + 1, levels.size());
+    }
+
+    /**
+     * Returns the number of levels in the journal.
+     *
+     * @return the level count
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Returns the level currently being replayed.
+     *
+     * @return the current level's records, or {@code null} if the replay has gone past the journal
+     */
+    private LevelJournal currentLevel() {
+        return levelIndex >= 0 && levelIndex < levels.size() ? levels.get(levelIndex) : null;
+    }
+
+    /**
+     * Keeps and prints the first divergence.
+     *
+     * @param found the divergence just found
+     */
+    private void reportDivergence(Divergence found) {
+        if (divergence == null) {
+            divergence = found;
+            System.err.println("Replay " + found);
+        }
+    }
+
+    /**
+     * Reads every level record and the records that follow it until the end of the stream.
+     *
+     * @param data the journal, positioned after the header
+     * @return the levels in the order they were played
+     * @throws IOException if the journal is malformed
+     */
+    private static List<LevelJournal> readLevels(DataInputStream data) throws IOException {
+        List<LevelJournal> levels = new ArrayList<>();
+        LevelBuilder builder = null;
+        int tag;
+        while ((tag = data.read()) >= 0) {
+            switch (tag) {
+                case InputRecorder.LEVEL_RECORD -> {
+                    if (builder != null) {
+                        levels.add(builder.build());
+                    }
+                    builder = new LevelBuilder(data.readUTF(), data.readLong());
+                }
+                case InputRecorder.COMMAND_RECORD -> requireLevel(builder).addCommand(builder.readTick(data), data.readByte());
+                case InputRecorder.STATE_HASH_RECORD -> requireLevel(builder).addHash(builder.readTick(data), data.readLong());
+                default -> throw new IOException("Unknown input journal record: " + tag);
+            }
+        }
+        if (builder != null) {
+            levels.add(builder.build());
+        }
+        return levels;
+    }
+
+    /**
+     * Checks that a record belongs to a level.
+     *
+     * @param builder the level being read
+     * @return the level being read
+     * @throws IOException if the record came before any level record
+     */
+    private static LevelBuilder requireLevel(LevelBuilder builder) throws IOException {
+        if (builder == null) {
+            throw new IOException("Input journal record before the first level");
+        }
+        return builder;
+    }
+
+    /**
+     * Collects the records of one level while the journal is read.
+     */
+    private static final class LevelBuilder {
+
+        private final String levelClassName;
+        private final long seed;
+        private long[] commandTicks = new long[64];
+        private byte[] commands = new byte[64];
+        private int commandCount;
+        private long[] hashTicks = new long[1024];
+        private long[] hashes = new long[1024];
+        private int hashCount;
+        private long lastTick;
+
+        LevelBuilder(String levelClassName, long seed) {
+            this.levelClassName = levelClassName;
+            this.seed = seed;
+        }
+
+        /**
+         * Reads a step written as a variable-length delta from the previous record's step.
+         *
+         * @param data the journal
+         * @return the step
+         * @throws IOException if the delta is malformed
+         */
+        long readTick(DataInputStream data) throws IOException {
+            long delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                if (shift > 63) {
+                    throw new IOException("Malformed step in input journal");
+                }
+                int b = data.read();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                delta |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            lastTick += delta;
+            return lastTick;
+        }
+
+        void addCommand(long tick, byte command) {
+            if (commandCount == commands.length) {
+                commandTicks = Arrays.copyOf(commandTicks, commandCount * 2);
+                commands = Arrays.copyOf(commands, commandCount * 2);
+            }
+            commandTicks[commandCount] = tick;
+            commands[commandCount++] = command;
+        }
+
+        void addHash(long tick, long hash) {
+            if (hashCount == hashes.length) {
+                hashTicks = Arrays.copyOf(hashTicks, hashCount * 2);
+                hashes = Arrays.copyOf(hashes, hashCount * 2);
+            }
+            hashTicks[hashCount] = tick;
+            hashes[hashCount++] = hash;
+        }
+
+        LevelJournal build() {
+            return new LevelJournal(levelClassName, seed, Arrays.copyOf(commandTicks, commandCount),
+                    Arrays.copyOf(commands, commandCount), Arrays.copyOf(hashTicks, hashCount), Arrays.copyOf(hashes, hashCount));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code LatencyHistogram} class records non-negative values, such as durations in nanoseconds
+ * or byte counts, in a fixed number of log-linear buckets.
+ * <p>
+ * Like an HDR histogram, values below {@code 2 * SUB_BUCKETS} are counted exactly, and every
+ * power-of-two range above that is split into {@code SUB_BUCKETS} equal buckets, so any recorded
+ * value is reported within about 3% of its true value. The bucket array is allocated once and
+ * recording never allocates, so a histogram can be updated every tick at negligible cost.
+ * Values larger than {@link #MAX_TRACKABLE_VALUE} are counted in the highest bucket.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 36;
+
+    /** The largest value tracked with full precision, about 2.2 * 10^12 (37 minutes in nanoseconds). */
+    public static final long MAX_TRACKABLE_VALUE = (2L * SUB_BUCKETS << MAX_SHIFT) - 1;
+
+    private final long[] counts = new long[(MAX_SHIFT + 2) * SUB_BUCKETS];
+    private long totalCount;
+    private long sum;
+    private long max;
+
+    /**
+     * Records one value.
+     *
+     * @param value the value to record; negative values are recorded as zero
+     */
+    public void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+        counts[indexOf(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * Returns the value at the given percentile, as the highest value that falls into the same bucket.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return the maximum, or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Discards every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Returns the bucket a value falls into.
+     *
+     * @param value a value between 0 and {@link #MAX_TRACKABLE_VALUE}
+     * @return the bucket index
+     */
+    private static int indexOf(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (int) (shift * SUB_BUCKETS + (value >>> shift));
+    }
+
+    /**
+     * Returns the highest value that falls into a bucket.
+     *
+     * @param index the bucket index
+     * @return the highest value of the bucket
+     */
+    private static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, index / SUB_BUCKETS - 1);
+        long mantissa = index - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo;
+
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code LeakDetector} class is a debugging aid that warns when an object that has been
+ * disposed, such as a level or its scene graph, is still reachable after garbage collection.
+ * <p>
+ * It is enabled with the {@code skybattle.leakcheck} system property, set either directly or
+ * through the game's {@code --leak-check} argument, and does nothing otherwise. Each watched
+ * object is held through a {@link WeakReference}, so watching never keeps it alive. A few seconds
+ * after the object is disposed, a background thread requests a garbage collection and prints a
+ * warning if the reference has not been cleared, which means something still refers to the
+ * object: a listener, a running timer or animation, an open window, or a static field.
+ * </p>
+ */
+public final class LeakDetector {
+
+    /** The name of the system property enabling the detector. */
+    public static final String PROPERTY = "skybattle.leakcheck";
+
+    private static final long CHECK_DELAY_SECONDS = 5;
+    private static final int GARBAGE_COLLECTION_ATTEMPTS = 3;
+    private static final long GARBAGE_COLLECTION_PAUSE_MILLIS = 100;
+
+    /** The watched objects that have not been collected yet. */
+    private static final Set<Watch> WATCHES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A weak reference to a disposed object, with a description for the warning.
+     */
+    private static final class Watch extends WeakReference<Object> {
+
+        private final String description;
+        private final long disposedNanos;
+
+        Watch(Object referent, String description) {
+            super(referent);
+            this.description = description;
+            this.disposedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Holds the checking thread, so that it is only started once something is watched.
+     */
+    private static final class Checker {
+
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                runnable -> Thread.ofPlatform().name("leak-detector").daemon().unstarted(runnable));
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private LeakDetector() {
+    }
+
+    /**
+     * Returns whether the {@code skybattle.leakcheck} system property enables the detector.
+     *
+     * @return {@code true} if disposed objects are checked for leaks
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Watches an object that has just been disposed and warns if it is still reachable after
+     * garbage collection a few seconds later. Does nothing unless the detector is enabled.
+     *
+     * @param disposed the disposed object
+     * @param description what the object is, for the warning
+     */
+    public static void watch(Object disposed, String description) {
+        if (!isEnabled()) {
+            return;
+        }
+        Watch watch = new Watch(disposed, description);
+        WATCHES.add(watch);
+        Checker.EXECUTOR.schedule(() -> check(watch), CHECK_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the number of watched objects that have not been garbage collected yet.
+     *
+     * @return the count of disposed objects still reachable, or possibly just not yet collected
+     */
+    public static int getRetainedCount() {
+        WATCHES.removeIf(watch -> watch.get() == null);
+        return WATCHES.size();
+    }
+
+    /**
+     * Collects garbage until the watched object is released, or warns that it is still reachable.
+     * Runs on the detector's thread.
+     *
+     * @param watch the watch to check
+     */
+    private static void check(Watch watch) {
+        for (int attempt = 0; attempt < GARBAGE_COLLECTION_ATTEMPTS; attempt++) {
+            System.gc();
+            if (watch.get() == null) {
+                WATCHES.remove(watch);
+                return;
+            }
+            try {
+                Thread.sleep(GARBAGE_COLLECTION_PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (watch.get() != null) {
+            System.err.printf("Possible leak: %s disposed %.1f s ago is still reachable after garbage collection "
+                    + "(%d disposed objects retained)%n",
+                    watch.description, (System.nanoTime() - watch.disposedNanos) / 1e9, getRetainedCount());
+        }
+    }
+}
@@ -12,21 +12,34 @@ import javafx.stage.Stage;
  */
 public class LevelOne extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
     private static final int TOTAL_ENEMIES = 5;
     private static final int KILLS_TO_ADVANCE = 10;
     private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
     private static final int PLAYER_INITIAL_HEALTH = 5;
 
     /**
-     * Constructs a LevelOne object with the specified screen dimensions and stage.
+     * Constructs a LevelOne object with the specified screen dimensions and stage,
+     * seeded with {@link GameRandom#defaultSeed()}.
      * 
      * @param screenHeight the height of the screen.
      * @param screenWidth the width of the screen.
      * @param stage the JavaFX Stage to display the level.
      */
     public LevelOne(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, stage, GameRandom.defaultSeed());
+    }
+
+    /**
+     * Constructs a LevelOne object with the specified screen dimensions, stage and random seed.
+     * 
+     * @param screenHeight the height of the screen.
+     * @param screenWidth the width of the screen.
+     * @param stage the JavaFX Stage to display the level.
+     * @param seed the seed of the level's random number generator.
+     */
+    public LevelOne(double screenHeight, double screenWidth, Stage stage, long seed) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
         this.stage = stage;
     }
 
@@ -39,7 +52,7 @@ public class LevelOne extends LevelParent {
         if (userIsDestroyed()) {
             loseGame();
         } else if (userHasReachedKillTarget()) {
-            goToLevel("com.example.demo.LevelTwo");
+            goToLevel(LevelRegistry.LEVEL_TWO);
         }
     }
 
@@ -48,7 +61,7 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
@@ -59,8 +72,8 @@ public class LevelOne extends LevelParent {
     protected void spawnEnemyUnits() {
         int currentNumberOfEnemies = getCurrentNumberOfEnemies();
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < getSpawnProbability()) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+            if (getRandom().nextDouble() < getSpawnProbability()) {
+                double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
                 ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getDifficultyFactor()); // Default image
                 addEnemyUnit(newEnemy);
             }
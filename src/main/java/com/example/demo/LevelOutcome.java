@@ -0,0 +1,19 @@
+package com.example.demo;
+
+/**
+ * The {@code LevelOutcome} enum describes how a level has ended, if it has.
+ */
+public enum LevelOutcome {
+
+    /** The level is still being played. */
+    IN_PROGRESS,
+
+    /** The player reached the level's kill target and moves on to the next level. */
+    ADVANCED,
+
+    /** The player defeated the final level. */
+    WON,
+
+    /** The player's plane was destroyed. */
+    LOST
+}
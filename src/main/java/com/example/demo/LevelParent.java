@@ -1,13 +1,16 @@
 package com.example.demo;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import javafx.animation.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
 import javafx.beans.property.StringProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.text.Font;
@@ -15,7 +18,6 @@ import javafx.scene.control.Button;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import com.example.demo.controller.KeyBindingSettings;
 import com.example.demo.controller.MenuPage;
 import javafx.geometry.Pos;
@@ -29,41 +31,97 @@ import javafx.geometry.Pos;
  * entities such as the player and enemies, and handling game mechanics like 
  * projectile firing and collision detection.
  * </p>
+ * <p>
+ * A displayed level is {@link #dispose() disposed} when it is replaced by the next level or the
+ * player returns to the menu, which stops its loop and releases its scene graph, listeners and
+ * popups. With the {@link LeakDetector} enabled, a disposed level still reachable after garbage
+ * collection is reported.
+ * </p>
  */
 public abstract class LevelParent {
 
     private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
     private static final int MILLISECOND_DELAY = 50;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final int AUTO_FIRE_INTERVAL_TICKS = 10; // 500 ms at 50 ms per tick
+    private static final double CULLING_MARGIN = 100;
+    private static final double PERFORMANCE_OVERLAY_Y_POSITION = 10;
+    private static final int PROFILER_SUMMARY_INTERVAL_TICKS = 5; // 250 ms at 50 ms per tick
+    private static final int POINTS_PER_KILL = 100;
+    static final double GAME_OVER_IMAGE_WIDTH = 500;
+    static final double GAME_OVER_IMAGE_HEIGHT = 300;
     protected static final double BASE_FIRE_RATE = 0.01;
 
     private final double screenHeight;
     private final double screenWidth;
     private final double enemyMaximumYPosition;
 
-    private final Group root;
-    private final Scene scene;
-    private final ImageView background;
+    private final String backgroundImageName;
     private final UserPlane user;
 
-    private final List<ActiveActorDestructible> friendlyUnits;
-    private final List<ActiveActorDestructible> enemyUnits;
-    private final List<ActiveActorDestructible> userProjectiles;
-    private final List<ActiveActorDestructible> enemyProjectiles;
-
-    private Timeline timeline;
-    private Timeline autoFireTimeline;
-    private int currentNumberOfEnemies;
+    private final EntityStore friendlyUnits;
+    private final EntityStore enemyUnits;
+    private final EntityStore userProjectiles;
+    private final EntityStore enemyProjectiles;
+
+    private final long seed;
+    private final SplittableGenerator random;
+    private final ProjectilePools projectilePools;
+    private CollisionBroadphase broadphase;
+    private final TickProfiler profiler;
+    private final CollisionPairHandler collisionResolver = this::resolveCollision;
+    private final Consumer<ActiveActorDestructible> destroyedActorRemover = this::detachDestroyedActor;
+    // Lock-free, as key events arrive on the JavaFX Application Thread while a dedicated thread simulates.
+    private final Queue<PlayerCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+    private final Consumer<PlayerCommand> commandApplier;
+
+    // Display state, only created when the level is shown on a stage.
+    private Group root;
+    private Scene scene;
+    private ImageView background;
     private LevelView levelView;
+    private LevelRenderer renderer = LevelRenderer.HEADLESS;
+    private PerformanceOverlay performanceOverlay;
+    private GameLoop gameLoop;
+    private SimulationThread simulationThread;
+    private volatile boolean performanceOverlayShown;
+
+    // Input journal, set when the session is being recorded or replayed.
+    private InputRecorder inputRecorder;
+    private InputReplay inputReplay;
+
+    private long tickCount;
+    private int ticksSinceLastAutoFire;
+    private int candidatePairCount;
+    private int collisionCount;
+    private int currentNumberOfEnemies;
+    private boolean friendlyUnitsInitialized;
+    private LevelOutcome outcome = LevelOutcome.IN_PROGRESS;
+    private String nextLevelName;
+    private long nextLevelSeed;
 
     private double difficultyFactor = 1.0;
     private int killsSinceLastIncrement = 0;
+    private int score;
 
     private final StringProperty levelName = new SimpleStringProperty();
+    private final ChangeListener<String> levelNameListener = (observable, oldValue, newValue) -> {
+        if (newValue != null && !newValue.isEmpty()) {
+            goToLevel(newValue);
+        }
+    };
+    private Stage winPopupStage;
+    private boolean disposed;
     protected Stage stage;
 
     /**
      * Constructs a LevelParent object with the specified background image, screen dimensions,
      * and initial player health. Initializes game entities and prepares the level for play.
+     * <p>
+     * Construction only sets up the simulation, so a level can run headless by calling
+     * {@link #updateScene()} directly. {@link #initializeScene()} builds the JavaFX scene when
+     * the level is displayed.
+     * </p>
      * 
      * @param backgroundImageName the path to the background image for the level.
      * @param screenHeight the height of the screen.
@@ -71,43 +129,60 @@ public abstract class LevelParent {
      * @param playerInitialHealth the initial health of the player.
      */
     public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-        this.root = new Group();
-        this.scene = new Scene(root, screenWidth, screenHeight);
-
-        this.timeline = new Timeline();
-        this.autoFireTimeline = new Timeline();
+        this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, GameRandom.defaultSeed());
+    }
 
+    /**
+     * Constructs a LevelParent object whose random events are driven by a generator with the given seed.
+     * The generator is shared with every plane in the level, so the same seed and the same player
+     * input always produce the same game.
+     *
+     * @param backgroundImageName the path to the background image for the level.
+     * @param screenHeight the height of the screen.
+     * @param screenWidth the width of the screen.
+     * @param playerInitialHealth the initial health of the player.
+     * @param seed the seed of the level's random number generator.
+     */
+    public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, long seed) {
+        this.backgroundImageName = backgroundImageName;
+        this.seed = seed;
+        this.random = GameRandom.create(seed);
+        this.projectilePools = new ProjectilePools();
         this.user = new UserPlane(playerInitialHealth);
-        this.friendlyUnits = new ArrayList<>();
-        this.enemyUnits = new ArrayList<>();
-        this.userProjectiles = new ArrayList<>();
-        this.enemyProjectiles = new ArrayList<>();
-
-        Image bgImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream(backgroundImageName)));
-        this.background = new ImageView(bgImage);
+        this.user.setProjectilePools(projectilePools);
+        this.commandApplier = command -> command.applyTo(user);
+        this.friendlyUnits = new EntityStore(true);
+        this.enemyUnits = new EntityStore(false);
+        this.userProjectiles = new EntityStore(true);
+        this.enemyProjectiles = new EntityStore(false);
 
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-        this.levelView = instantiateLevelView();
+        this.profiler = new TickProfiler();
         this.currentNumberOfEnemies = 0;
 
-        initializeTimeline();
-        initializeAutoFire();
-        friendlyUnits.add(user);
-
-        levelName.addListener((observable, oldValue, newValue) -> {
-            if (newValue != null && !newValue.isEmpty()) {
-                goToLevel(newValue);
-            }
-        });
+        levelName.addListener(levelNameListener);
     }
 
     /**
      * Initializes the friendly units for the level, such as the user-controlled plane.
+     * Called once, the first time the level is displayed or stepped, so the level is fully constructed.
      */
     protected abstract void initializeFriendlyUnits();
 
+    /**
+     * Adds the level's friendly units unless they have already been added. Runs from
+     * {@link #initializeRoot()} and {@link #updateScene()} rather than the constructor, so an
+     * overriding {@link #initializeFriendlyUnits()} never sees a partly constructed subclass.
+     */
+    private void ensureFriendlyUnits() {
+        if (!friendlyUnitsInitialized) {
+            friendlyUnitsInitialized = true;
+            initializeFriendlyUnits();
+        }
+    }
+
     /**
      * Checks if the game is over, such as when the player is destroyed or reaches 
      * a target number of kills to advance to the next level.
@@ -121,34 +196,80 @@ public abstract class LevelParent {
 
     /**
      * Instantiates the view for this level, displaying relevant information like health and score.
+     * Only called when the level is displayed.
      * 
      * @return the LevelView instance for this level.
      */
     protected abstract LevelView instantiateLevelView();
 
+    /**
+     * Creates the broadphase used to find candidate collision pairs. By default this is the one selected
+     * with {@link BroadphaseType#fromSystemProperty()}, a spatial hash covering the playfield unless
+     * another is chosen; levels may override it to use a different strategy. Called once, when the
+     * level first handles collisions, so the level is fully constructed.
+     *
+     * @return the collision broadphase for this level.
+     */
+    protected CollisionBroadphase createBroadphase() {
+        return BroadphaseType.fromSystemProperty().create(screenWidth, screenHeight);
+    }
+
     /**
      * Transitions to the next level based on the provided level name. 
-     * Dynamically loads the level and clears the current level's resources.
+     * Creates the level through the {@link LevelRegistry} and clears the current level's resources.
+     * A headless level only records the outcome and leaves the transition to its runner.
+     * The next level's seed is drawn from this level's generator, so a whole game is
+     * determined by the seed of its first level.
      * 
      * @param levelName the fully qualified name of the next level's class.
      */
     protected void goToLevel(String levelName) {
-        try {
-            // Dynamically load the next level using reflection
-            Class<?> levelClass = Class.forName(levelName);
-            LevelParent nextLevel = (LevelParent) levelClass
-                    .getConstructor(double.class, double.class, Stage.class)
-                    .newInstance(getScreenHeight(), getScreenWidth(), stage);
-
-            // Clear current level's resources
-            clearLevel();
+        endLevel(LevelOutcome.ADVANCED);
+        nextLevelName = levelName;
+        nextLevelSeed = random.nextLong();
+        if (isDisplayed()) {
+            runOnDisplayThread(() -> showLevel(levelName));
+        }
+    }
 
-            // Create and set the new scene
-            Scene nextScene = nextLevel.initializeScene();
-            stage.setScene(nextScene);
+    /**
+     * Replaces this level's scene graph with the next level's in the scene on screen and starts it.
+     * The next level's assets were preloaded while this level was played, so building its scene
+     * graph does not wait on decoding, and the scene itself is kept: the switch only swaps its root.
+     * The time taken is recorded as a {@link LevelTransitionEvent} and printed.
+     *
+     * @param levelName the fully qualified name of the next level's class.
+     */
+    private void showLevel(String levelName) {
+        LevelTransitionEvent transition = new LevelTransitionEvent();
+        transition.beginTransition(getClass().getName(), levelName);
+        try {
+            LevelParent nextLevel = LevelRegistry.create(levelName, getScreenHeight(), getScreenWidth(), stage, nextLevelSeed);
+            transition.endConstruction();
+            nextLevel.initializeRoot();
+            transition.endSceneInitialization();
+
+            // Release the current level and swap the next level in; disposing clears the input journal
+            Scene displayedScene = scene;
+            InputRecorder recorder = inputRecorder;
+            InputReplay replay = inputReplay;
+            dispose();
+            nextLevel.showIn(displayedScene);
+            transition.endRootSwap();
+
+            // Carry the input journal over to the new level
+            if (recorder != null) {
+                nextLevel.setInputRecorder(recorder);
+            }
+            if (replay != null) {
+                nextLevel.setInputReplay(replay);
+            }
 
             // Start the new level
             nextLevel.startGame();
+            transition.endGameStart();
+            transition.commit();
+            System.out.println(transition.getSummary());
         } catch (Exception e) {
             System.err.println("Failed to transition to level: " + levelName);
             e.printStackTrace();
@@ -156,69 +277,245 @@ public abstract class LevelParent {
     }
 
     /**
-     * Initializes the scene for the level, setting up the background, friendly units, and UI components.
-     * 
+     * Initializes the scene for the level, setting up the background, the actor layer and UI components.
+     *
      * @return the initialized scene for the level.
      */
     public Scene initializeScene() {
+        scene = new Scene(initializeRoot(), screenWidth, screenHeight);
+        return scene;
+    }
+
+    /**
+     * Builds the level's scene graph, setting up the background, the actor layer and UI components,
+     * without a scene of its own, so that it can replace the root of the scene already on screen
+     * with {@link #showIn(Scene)}. The actor layer is drawn by the backend selected with {@link RenderBackend#fromSystemProperty()}.
+     * Actors already in play, such as the user-controlled plane, are added to the new renderer.
+     * When {@link SimulationMode#fromSystemProperty()} selects a dedicated simulation thread, the
+     * level hands its actors to that thread's frame recorder instead, which forwards them to the
+     * renderer on the JavaFX Application Thread.
+     * 
+     * @return the root of the level's scene graph.
+     */
+    public Group initializeRoot() {
+        ensureFriendlyUnits();
+        root = new Group();
         initializeBackground();
-        initializeFriendlyUnits();
+
+        Group actorLayer = new Group();
+        root.getChildren().add(actorLayer);
+        LevelRenderer display = RenderBackend.fromSystemProperty().createRenderer(actorLayer, screenWidth, screenHeight);
+        if (SimulationMode.fromSystemProperty() == SimulationMode.DEDICATED_THREAD) {
+            simulationThread = new SimulationThread(MILLISECOND_DELAY, MAX_STEPS_PER_FRAME, this::updateScene,
+                    this::writeFrame, display, this::showFrame);
+            renderer = simulationThread.getFrameRecorder();
+        } else {
+            renderer = display;
+        }
+        friendlyUnits.forEach(renderer::addActor);
+        enemyUnits.forEach(renderer::addActor);
+        userProjectiles.forEach(renderer::addActor);
+        enemyProjectiles.forEach(renderer::addActor);
+
+        levelView = instantiateLevelView();
         levelView.showHeartDisplay();
-        return scene;
+        levelView.showReadout();
+
+        performanceOverlay = new PerformanceOverlay(screenWidth, PERFORMANCE_OVERLAY_Y_POSITION);
+        root.getChildren().add(performanceOverlay.getNode());
+        return root;
+    }
+
+    /**
+     * Displays the level in a scene that is already on screen by making the level's scene graph,
+     * built with {@link #initializeRoot()}, the scene's root.
+     *
+     * @param existingScene the scene to display the level in.
+     */
+    public void showIn(Scene existingScene) {
+        scene = existingScene;
+        existingScene.setRoot(root);
     }
 
     /**
-     * Starts the game by playing the timeline animation for the game loop.
+     * Starts the game by starting the game loop on the JavaFX pulse, or the simulation thread if
+     * the level was given one. The assets of this level and the next start loading in the
+     * background, so enemies appearing later and the transition to the next level find them cached.
      */
     public void startGame() {
         background.requestFocus();
-        timeline.play();
+        preloadAssets();
+        if (simulationThread != null) {
+            simulationThread.start();
+            return;
+        }
+        gameLoop = new GameLoop(MILLISECOND_DELAY, MAX_STEPS_PER_FRAME, this::updateScene, this::renderFrame);
+        gameLoop.start();
     }
 
+    /**
+     * Starts loading the assets of this level and the level after it on virtual threads.
+     * Levels missing from the {@link LevelRegistry} load their assets on first use.
+     */
+    private void preloadAssets() {
+        String className = getClass().getName();
+        if (!LevelRegistry.contains(className)) {
+            return;
+        }
+        LevelRegistry.preloadAssets(className, screenWidth, screenHeight);
+        String nextLevel = LevelRegistry.getNextLevel(className);
+        if (nextLevel != null) {
+            LevelRegistry.preloadAssets(nextLevel, screenWidth, screenHeight);
+        }
+    }
 
     /**
-     * Updates the game state during each cycle of the game loop. This includes increasing difficulty,
-     * spawning enemy units, updating actors, handling projectile collisions, and checking for win/lose conditions.
+     * Updates the game state by one simulation step. This includes applying the player's commands,
+     * increasing difficulty, spawning enemy units, updating actors, handling projectile collisions,
+     * and checking for win/lose conditions.
+     * <p>
+     * The game loop calls this every {@code MILLISECOND_DELAY} milliseconds of game time; headless
+     * runners call it directly, as fast as they like, until {@link #isFinished()} returns true.
+     * </p>
      */
-    private void updateScene() {
+    public void updateScene() {
+        ensureFriendlyUnits();
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
+        profiler.beginTick();
+        applyPlayerCommands();
         increaseDifficulty();
         spawnEnemyUnits();
+        profiler.endPhase(TickPhase.SPAWN);
         updateActors();
+        profiler.endPhase(TickPhase.UPDATE);
+        autoFire();
         generateEnemyFire();
+        profiler.endPhase(TickPhase.FIRE);
         updateNumberOfEnemies();
         handleEnemyPenetration();
+        profiler.endPhase(TickPhase.PENETRATION);
+        cullOutOfBoundsActors();
+        profiler.endPhase(TickPhase.CULLING);
         handleUserProjectileCollisions();
+        profiler.endPhase(TickPhase.USER_PROJECTILE_COLLISIONS);
         handleEnemyProjectileCollisions();
+        profiler.endPhase(TickPhase.ENEMY_PROJECTILE_COLLISIONS);
         handlePlaneCollisions();
+        profiler.endPhase(TickPhase.PLANE_COLLISIONS);
         removeAllDestroyedActors();
+        profiler.endPhase(TickPhase.REMOVAL);
         updateKillCount();
-        updateLevelView();
         checkIfGameOver();
+        profiler.endPhase(TickPhase.GAME_OVER_CHECK);
+        profiler.endTick(getLiveEntityCount());
+        journalStateHash();
+        tickCount++;
+        if (tickEvent.shouldCommit()) {
+            tickEvent.setFrom(getClass().getName(), profiler);
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Applies the commands given since the previous step, recording them if the session is being
+     * recorded. A replayed level applies the recorded commands for this step instead and ignores the keyboard.
+     */
+    private void applyPlayerCommands() {
+        if (inputReplay != null) {
+            pendingCommands.clear();
+            inputReplay.forEachCommand(tickCount, commandApplier);
+            return;
+        }
+        PlayerCommand command;
+        while ((command = pendingCommands.poll()) != null) {
+            command.applyTo(user);
+            if (inputRecorder != null) {
+                inputRecorder.recordCommand(tickCount, command);
+            }
+        }
     }
 
     /**
-     * Initializes the auto-fire functionality, allowing the player to automatically fire projectiles at regular intervals.
+     * Records the state hash at the end of this step, or checks it against the recording when replaying.
+     * The hash is only computed when the session is journaled.
      */
-    private void initializeAutoFire() {
-        autoFireTimeline.setCycleCount(Timeline.INDEFINITE);
-        KeyFrame autoFireFrame = new KeyFrame(Duration.millis(500), e -> fireProjectile());
-        autoFireTimeline.getKeyFrames().add(autoFireFrame);
-        autoFireTimeline.play();
+    private void journalStateHash() {
+        if (inputRecorder != null) {
+            inputRecorder.recordStateHash(tickCount, getStateHash());
+        }
+        if (inputReplay != null) {
+            inputReplay.verifyStateHash(tickCount, getStateHash());
+        }
     }
 
     /**
-     * Initializes the game loop, which repeatedly updates the game state at regular intervals.
+     * Draws one frame of the displayed level, and refreshes the heads-up display and the performance
+     * overlay. Nothing is drawn once the level has been disposed, as happens when the step just run
+     * advanced to the next level.
+     *
+     * @param alpha the interpolation factor between the previous and current simulation steps
      */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-        timeline.getKeyFrames().add(gameLoop);
+    private void renderFrame(double alpha) {
+        if (disposed) {
+            return;
+        }
+        renderer.render(alpha);
+        updateLevelView();
+        performanceOverlay.refresh(profiler);
+    }
+
+    /**
+     * Adds the positions of every actor in play and the HUD state at the end of this step to a frame.
+     * Runs on the simulation thread; a profiler summary is only taken while the overlay is shown.
+     *
+     * @param frame the frame to complete
+     */
+    private void writeFrame(RenderFrame frame) {
+        frame.capture(friendlyUnits);
+        frame.capture(enemyUnits);
+        frame.capture(userProjectiles);
+        frame.capture(enemyProjectiles);
+        frame.setUserHealth(user.getHealth());
+        frame.setUserKills(user.getTotalKills());
+        frame.setScore(score);
+        if (performanceOverlayShown && tickCount % PROFILER_SUMMARY_INTERVAL_TICKS == 0) {
+            frame.setProfilerSummary(profiler.getSummary());
+        }
+    }
+
+    /**
+     * Shows the HUD state of the latest frame from the simulation thread, after every pulse is
+     * drawn. The view only changes the values that differ from those it shows.
+     *
+     * @param frame the frame being drawn
+     */
+    private void showFrame(RenderFrame frame) {
+        levelView.showHealth(frame.getUserHealth());
+        levelView.showKills(frame.getUserKills());
+        levelView.showScore(frame.getScore());
+        levelView.frameDrawn(System.nanoTime());
+        if (frame.getProfilerSummary() != null) {
+            performanceOverlay.refresh(frame.getProfilerSummary());
+        }
+    }
+
+    /**
+     * Fires a projectile from the user-controlled character every {@code AUTO_FIRE_INTERVAL_TICKS}
+     * simulation steps. Counting ticks keeps auto-fire in lockstep with the rest of the simulation.
+     */
+    private void autoFire() {
+        if (++ticksSinceLastAutoFire >= AUTO_FIRE_INTERVAL_TICKS) {
+            ticksSinceLastAutoFire = 0;
+            fireProjectile();
+        }
     }
 
     /**
      * Initializes the background for the game scene, including setting up user input handling for key press and release events.
      */
     private void initializeBackground() {
+        background = new ImageView(AssetCache.getImage(backgroundImageName, screenWidth, screenHeight, false));
         background.setFocusTraversable(true);
         background.setFitHeight(screenHeight);
         background.setFitWidth(screenWidth);
@@ -231,23 +528,28 @@ public abstract class LevelParent {
 
     /**
      * Handles key press events based on the current key binding settings. This allows the player to move
-     * the user-controlled character using either arrow keys or WASD keys.
+     * the user-controlled character using either arrow keys or WASD keys. F3 toggles the performance overlay.
      *
      * @param kc The key that was pressed.
      */
     private void handleKeyPress(KeyCode kc) {
+        if (kc == KeyCode.F3) {
+            performanceOverlay.toggle();
+            performanceOverlayShown = performanceOverlay.isVisible();
+            return;
+        }
         KeyBindingSettings.Binding binding = KeyBindingSettings.getKeyBinding();
 
         if (binding == KeyBindingSettings.Binding.ARROW_KEYS) {
-            if (kc == KeyCode.UP) user.moveUp();
-            if (kc == KeyCode.DOWN) user.moveDown();
-            if (kc == KeyCode.LEFT) user.moveLeft();
-            if (kc == KeyCode.RIGHT) user.moveRight();
+            if (kc == KeyCode.UP) submitCommand(PlayerCommand.MOVE_UP);
+            if (kc == KeyCode.DOWN) submitCommand(PlayerCommand.MOVE_DOWN);
+            if (kc == KeyCode.LEFT) submitCommand(PlayerCommand.MOVE_LEFT);
+            if (kc == KeyCode.RIGHT) submitCommand(PlayerCommand.MOVE_RIGHT);
         } else if (binding == KeyBindingSettings.Binding.WASD_KEYS) {
-            if (kc == KeyCode.W) user.moveUp();
-            if (kc == KeyCode.S) user.moveDown();
-            if (kc == KeyCode.A) user.moveLeft();
-            if (kc == KeyCode.D) user.moveRight();
+            if (kc == KeyCode.W) submitCommand(PlayerCommand.MOVE_UP);
+            if (kc == KeyCode.S) submitCommand(PlayerCommand.MOVE_DOWN);
+            if (kc == KeyCode.A) submitCommand(PlayerCommand.MOVE_LEFT);
+            if (kc == KeyCode.D) submitCommand(PlayerCommand.MOVE_RIGHT);
         }
     }
 
@@ -261,23 +563,56 @@ public abstract class LevelParent {
         KeyBindingSettings.Binding binding = KeyBindingSettings.getKeyBinding();
 
         if (binding == KeyBindingSettings.Binding.ARROW_KEYS) {
-            if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
-            if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) user.stopHorizontalMovement();
+            if (kc == KeyCode.UP || kc == KeyCode.DOWN) submitCommand(PlayerCommand.STOP_VERTICAL);
+            if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) submitCommand(PlayerCommand.STOP_HORIZONTAL);
         } else if (binding == KeyBindingSettings.Binding.WASD_KEYS) {
-            if (kc == KeyCode.W || kc == KeyCode.S) user.stop();
-            if (kc == KeyCode.A || kc == KeyCode.D) user.stopHorizontalMovement();
+            if (kc == KeyCode.W || kc == KeyCode.S) submitCommand(PlayerCommand.STOP_VERTICAL);
+            if (kc == KeyCode.A || kc == KeyCode.D) submitCommand(PlayerCommand.STOP_HORIZONTAL);
         }
     }
 
     /**
-     * Fires a projectile from the user-controlled character. The projectile is added to the game scene
-     * and tracked in the list of user projectiles.
+     * Queues a command for the user plane. Commands are applied, in the order given, at the start of
+     * the next simulation step, so that the step they take effect at can be recorded and replayed.
+     * Safe to call from any thread.
+     *
+     * @param command The command to apply.
+     */
+    public void submitCommand(PlayerCommand command) {
+        pendingCommands.add(command);
+    }
+
+    /**
+     * Records this level's commands and state hashes to the given journal, starting a new level in it.
+     * Must be called before the first simulation step; the recorder is handed on to the next level.
+     *
+     * @param recorder The journal to record to.
+     */
+    public void setInputRecorder(InputRecorder recorder) {
+        this.inputRecorder = recorder;
+        recorder.beginLevel(getClass().getName(), seed);
+    }
+
+    /**
+     * Replays this level's commands from the given journal and checks its state hashes against it,
+     * moving the replay on to its next level. Must be called before the first simulation step; the
+     * replay is handed on to the next level.
+     *
+     * @param replay The journal to replay.
+     */
+    public void setInputReplay(InputReplay replay) {
+        this.inputReplay = replay;
+        replay.beginLevel(getClass().getName(), seed);
+    }
+
+    /**
+     * Fires a projectile from the user-controlled character. The projectile is shown in the game scene
+     * and tracked in the store of user projectiles.
      */
     private void fireProjectile() {
         ActiveActorDestructible projectile = user.fireProjectile();
         if (projectile != null) {
-            root.getChildren().add(projectile);
-            userProjectiles.add(projectile);
+            attachToScene(projectile, userProjectiles);
         }
     }
 
@@ -285,29 +620,68 @@ public abstract class LevelParent {
      * Generates enemy fire by iterating through all enemy units and spawning their projectiles.
      */
     private void generateEnemyFire() {
-        enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+        for (int slot = 0; slot < enemyUnits.size(); slot++) {
+            spawnEnemyProjectile(((FighterPlane) enemyUnits.get(slot)).fireProjectile());
+        }
     }
 
     /**
-     * Spawns an enemy projectile and adds it to the game scene. The projectile is also added to the list of enemy projectiles.
+     * Spawns an enemy projectile and shows it in the game scene. The projectile is also added to the store of enemy projectiles.
      *
      * @param projectile The projectile to spawn.
      */
     private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
         if (projectile != null) {
-            root.getChildren().add(projectile);
-            enemyProjectiles.add(projectile);
+            attachToScene(projectile, enemyProjectiles);
         }
     }
 
     /**
-     * Updates all actors in the game (user units, enemy units, and projectiles). This method is called in every game loop cycle.
+     * Moves an actor that has entered play into its group's entity store and hands it to the renderer.
+     * Pooled projectiles keep their hidden node in the scene between uses, so reusing one only makes
+     * it visible again.
+     *
+     * @param actor The actor to attach.
+     * @param group The store of the actor's group.
+     */
+    private void attachToScene(ActiveActorDestructible actor, EntityStore group) {
+        group.add(actor);
+        renderer.addActor(actor);
+        ActorSpawnEvent.emit(actor);
+    }
+
+    /**
+     * Advances every actor in the game (user units, enemy units, and projectiles) by one simulation step,
+     * recording their previous positions first so rendering can interpolate between the two.
+     * Kinematic actors, such as projectiles and enemy planes, are moved in one pass over each entity
+     * store; the others are updated one by one.
      */
     private void updateActors() {
-        friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-        enemyUnits.forEach(ActiveActorDestructible::updateActor);
-        userProjectiles.forEach(ActiveActorDestructible::updateActor);
-        enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+        updateActors(friendlyUnits);
+        updateActors(enemyUnits);
+        updateActors(userProjectiles);
+        updateActors(enemyProjectiles);
+    }
+
+    /**
+     * Advances the actors of one group by one simulation step.
+     *
+     * @param actors The store of actors to update.
+     */
+    private static void updateActors(EntityStore actors) {
+        actors.savePreviousPositions();
+        actors.integrate();
+        actors.updateScriptedActors();
+    }
+
+    /**
+     * Destroys projectiles and enemy units that have left the playfield plus the culling margin, so
+     * they are detached from the scene by the following removal pass instead of being updated forever.
+     */
+    private void cullOutOfBoundsActors() {
+        userProjectiles.destroyOutOfBounds(screenWidth, screenHeight, CULLING_MARGIN);
+        enemyProjectiles.destroyOutOfBounds(screenWidth, screenHeight, CULLING_MARGIN);
+        enemyUnits.destroyOutOfBounds(screenWidth, screenHeight, CULLING_MARGIN);
     }
 
     /**
@@ -318,56 +692,112 @@ public abstract class LevelParent {
         removeDestroyedActors(enemyUnits);
         removeDestroyedActors(userProjectiles);
         removeDestroyedActors(enemyProjectiles);
+        // One batched removal, and therefore one change notification, per frame.
+        renderer.flushRemovals();
+    }
+
+    /**
+     * Removes destroyed actors from their store, compacting the surviving actors in place while
+     * keeping their order. The store only visits the destroyed slots, so a pass with nothing to
+     * remove costs one bitset check.
+     * Package-private so the benchmarks can measure it in isolation.
+     *
+     * @param actors The store of actors to check and remove.
+     */
+    void removeDestroyedActors(EntityStore actors) {
+        actors.removeDestroyed(destroyedActorRemover);
     }
 
     /**
-     * Removes actors from the game scene and their respective lists if they are destroyed.
+     * Takes a destroyed actor that has left its store out of play. Destroyed projectiles are returned
+     * to their pool and the renderer keeps their nodes hidden; every other destroyed actor is queued
+     * for detachment from the scene.
      *
-     * @param actors The list of actors to check and remove.
+     * @param actor The destroyed actor.
      */
-    private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-            .filter(ActiveActorDestructible::isDestroyed)
-            .collect(Collectors.toList());
-        root.getChildren().removeAll(destroyedActors);
-        actors.removeAll(destroyedActors);
+    private void detachDestroyedActor(ActiveActorDestructible actor) {
+        boolean pooled = actor instanceof Projectile projectile && projectile.returnToPool();
+        renderer.removeActor(actor, pooled);
+        ActorDestroyEvent.emit(actor, pooled);
     }
 
     /**
      * Handles collisions between friendly units and enemy units, causing both to take damage.
      */
     private void handlePlaneCollisions() {
-        handleCollisions(friendlyUnits, enemyUnits);
+        handleCollisionBatch(TickPhase.PLANE_COLLISIONS, friendlyUnits, enemyUnits);
     }
 
     /**
      * Handles collisions between user projectiles and enemy units, causing both to take damage.
      */
     private void handleUserProjectileCollisions() {
-        handleCollisions(userProjectiles, enemyUnits);
+        handleCollisionBatch(TickPhase.USER_PROJECTILE_COLLISIONS, userProjectiles, enemyUnits);
     }
 
     /**
      * Handles collisions between enemy projectiles and friendly units, causing both to take damage.
      */
     private void handleEnemyProjectileCollisions() {
-        handleCollisions(enemyProjectiles, friendlyUnits);
+        handleCollisionBatch(TickPhase.ENEMY_PROJECTILE_COLLISIONS, enemyProjectiles, friendlyUnits);
     }
 
     /**
-     * Handles collisions between two lists of actors. When a collision occurs, both actors take damage.
+     * Handles one collision pass and reports it as a {@link CollisionBatchEvent}, with the number
+     * of candidate pairs tested and the number of actual collisions.
      *
-     * @param firstActors The first list of actors to check for collisions.
-     * @param secondActors The second list of actors to check for collisions.
+     * @param batch The phase this pass belongs to, which names the batch.
+     * @param firstActors The first store of actors to check for collisions.
+     * @param secondActors The second store of actors to check for collisions.
      */
-    private void handleCollisions(List<ActiveActorDestructible> firstActors, List<ActiveActorDestructible> secondActors) {
-        for (ActiveActorDestructible first : firstActors) {
-            for (ActiveActorDestructible second : secondActors) {
-                if (first.collidesWith(second)) {
-                    first.takeDamage();
-                    second.takeDamage();
-                }
-            }
+    private void handleCollisionBatch(TickPhase batch, EntityStore firstActors, EntityStore secondActors) {
+        CollisionBatchEvent event = new CollisionBatchEvent();
+        event.begin();
+        candidatePairCount = 0;
+        collisionCount = 0;
+        handleCollisions(firstActors, secondActors);
+        if (event.shouldCommit()) {
+            event.batch = batch.getLabel();
+            event.firstCount = firstActors.size();
+            event.secondCount = secondActors.size();
+            event.candidatePairs = candidatePairCount;
+            event.collisions = collisionCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Handles collisions between two stores of actors. The broadphase narrows the search down to
+     * pairs sharing a grid cell, and only those pairs are tested for an actual overlap.
+     * Package-private so the benchmarks can measure it in isolation.
+     *
+     * @param firstActors The first store of actors to check for collisions.
+     * @param secondActors The second store of actors to check for collisions.
+     */
+    void handleCollisions(EntityStore firstActors, EntityStore secondActors) {
+        if (broadphase == null) {
+            broadphase = createBroadphase();
+        }
+        broadphase.findCandidatePairs(firstActors, secondActors, collisionResolver);
+    }
+
+    /**
+     * Tests a candidate pair for an actual collision at any point during the step, sweeping both
+     * actors' bounds from their previous positions so fast projectiles cannot skip through a target,
+     * then comparing the sprites' collision masks so transparent margins never collide.
+     * When a collision occurs, both actors take damage.
+     *
+     * @param first The first store.
+     * @param firstSlot The slot of the actor in the first store.
+     * @param second The second store.
+     * @param secondSlot The slot of the actor in the second store.
+     */
+    private void resolveCollision(EntityStore first, int firstSlot, EntityStore second, int secondSlot) {
+        candidatePairCount++;
+        if (first.collides(firstSlot, second, secondSlot)) {
+            collisionCount++;
+            first.get(firstSlot).takeDamage();
+            second.get(secondSlot).takeDamage();
         }
     }
 
@@ -376,7 +806,8 @@ public abstract class LevelParent {
      * screen, the user takes damage, and the enemy is destroyed.
      */
     private void handleEnemyPenetration() {
-        for (ActiveActorDestructible enemy : enemyUnits) {
+        for (int slot = 0; slot < enemyUnits.size(); slot++) {
+            ActiveActorDestructible enemy = enemyUnits.get(slot);
             if (enemyHasPenetratedDefenses(enemy)) {
                 user.takeDamage();
                 enemy.destroy();
@@ -385,31 +816,39 @@ public abstract class LevelParent {
     }
 
     /**
-     * Updates the game view, such as adjusting health indicators, based on the user's current health.
+     * Updates the heads-up display with the user's health, kills and score once per drawn frame.
+     * The view only changes the values that differ from those it shows, so a frame where nothing
+     * changed costs a few comparisons. A level with a simulation thread updates its view from the
+     * frames it publishes instead.
      */
     private void updateLevelView() {
-        levelView.removeHearts(user.getHealth());
+        levelView.showHealth(user.getHealth());
+        levelView.showKills(user.getTotalKills());
+        levelView.showScore(score);
+        levelView.frameDrawn(System.nanoTime());
     }
 
     /**
      * Updates the player's kill count by comparing the difference between the current number of enemies
-     * and the number of remaining enemy units, incrementing the kill count accordingly.
+     * and the number of remaining enemy units, incrementing the kill count accordingly. Each kill
+     * scores {@code POINTS_PER_KILL} points scaled by the current difficulty factor.
      */
     private void updateKillCount() {
         for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
             user.incrementKillCount();
+            score += (int) Math.round(POINTS_PER_KILL * difficultyFactor);
         }
     }
 
     /**
-     * Checks if the enemy has penetrated the defenses by determining if its horizontal position
-     * exceeds the screen width.
+     * Checks if the enemy has penetrated the defenses by determining if it has crossed the
+     * left edge of the screen.
      *
      * @param enemy The enemy actor to check.
      * @return True if the enemy has crossed the screen boundary, false otherwise.
      */
     private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth;
+        return enemy.getMinX() < 0;
     }
 
     /**
@@ -425,13 +864,20 @@ public abstract class LevelParent {
     }
 
     /**
-     * Handles the game win condition by stopping the game timelines, displaying a win image, and providing
+     * Handles the game win condition by stopping the game loop, displaying a win image, and providing
      * an option to return to the main menu.
      */
     protected void winGame() {
-        timeline.stop();
-        autoFireTimeline.stop();
+        endLevel(LevelOutcome.WON);
+        if (isDisplayed()) {
+            runOnDisplayThread(this::showWinOverlay);
+        }
+    }
 
+    /**
+     * Displays the win image and a button back to the main menu over the level.
+     */
+    private void showWinOverlay() {
         // Create the win image
         WinImage winImage = new WinImage(355, 175); // Adjust the position as needed
         winImage.showWinImage();
@@ -457,19 +903,27 @@ public abstract class LevelParent {
     }
 
     /**
-     * Handles the game over condition by stopping the game timelines, displaying a game over image,
+     * Handles the game over condition by stopping the game loop, displaying a game over image,
      * and providing an option to return to the main menu.
      */
     protected void loseGame() {
-        timeline.stop();  // Stop the game loop
-        autoFireTimeline.stop();  // Stop the auto-firing timeline
+        endLevel(LevelOutcome.LOST);  // Stop the game loop, which also stops auto-firing
+        if (isDisplayed()) {
+            runOnDisplayThread(this::showGameOverOverlay);
+        }
+    }
 
+    /**
+     * Displays the game over image and a button back to the main menu over the level.
+     */
+    private void showGameOverOverlay() {
         // Create the game over image
-        ImageView gameOverImage = new ImageView(new Image(getClass().getResource("/com/example/demo/images/gameover.png").toExternalForm()));
+        ImageView gameOverImage = new ImageView(AssetCache.getImage(GameOverImage.IMAGE_NAME,
+                GAME_OVER_IMAGE_WIDTH, GAME_OVER_IMAGE_HEIGHT, true));
 
         // Resize the image (adjust size as needed)
-        gameOverImage.setFitWidth(500);
-        gameOverImage.setFitHeight(300);
+        gameOverImage.setFitWidth(GAME_OVER_IMAGE_WIDTH);
+        gameOverImage.setFitHeight(GAME_OVER_IMAGE_HEIGHT);
         gameOverImage.setPreserveRatio(true);  // Keep the aspect ratio intact
 
         // Create the "Back to Menu" button
@@ -497,10 +951,28 @@ public abstract class LevelParent {
      *
      * @return The user-controlled plane.
      */
-    protected UserPlane getUser() {
+    public UserPlane getUser() {
         return user;
     }
 
+    /**
+     * Returns a read-only view of the enemy planes in play, for scripted players and tools.
+     *
+     * @return The enemy units.
+     */
+    public List<ActiveActorDestructible> getEnemyUnits() {
+        return enemyUnits.asList();
+    }
+
+    /**
+     * Returns a read-only view of the enemy projectiles in flight, for scripted players and tools.
+     *
+     * @return The enemy projectiles.
+     */
+    public List<ActiveActorDestructible> getEnemyProjectiles() {
+        return enemyProjectiles.asList();
+    }
+
     /**
      * Returns the root group of the game scene, which contains all game elements.
      *
@@ -520,13 +992,125 @@ public abstract class LevelParent {
     }
 
     /**
-     * Adds a new enemy unit to the game scene and the list of enemy units.
+     * Adds a new enemy unit to the game scene and the store of enemy units.
      *
      * @param enemy The enemy unit to add.
      */
     protected void addEnemyUnit(ActiveActorDestructible enemy) {
-        enemyUnits.add(enemy);
-        root.getChildren().add(enemy);
+        if (enemy instanceof FighterPlane plane) {
+            plane.setProjectilePools(projectilePools);
+            plane.setRandomGenerator(random);
+        }
+        attachToScene(enemy, enemyUnits);
+    }
+
+    /**
+     * Adds a friendly unit, such as the user-controlled plane, to the level.
+     *
+     * @param unit The friendly unit to add.
+     */
+    protected void addFriendlyUnit(ActiveActorDestructible unit) {
+        if (unit instanceof FighterPlane plane) {
+            plane.setProjectilePools(projectilePools);
+            plane.setRandomGenerator(random);
+        }
+        attachToScene(unit, friendlyUnits);
+    }
+
+    /**
+     * Returns the number of live actors (friendly units, enemy units and projectiles) in the level.
+     * Off-screen actors are culled every tick, so this stays bounded during long sessions.
+     *
+     * @return The number of live actors.
+     */
+    public int getLiveEntityCount() {
+        return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+    }
+
+    /**
+     * Returns the score the player has made in this level: {@code POINTS_PER_KILL} points for each
+     * kill, scaled by the difficulty factor at the time of the kill.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the number of simulation steps the level has run.
+     *
+     * @return The number of steps run.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns a hash of the simulation state: the step count, the player's health and kills, the
+     * difficulty, and the position and health of every actor. Barring hash collisions, two runs of a
+     * level whose hashes match after a step are in the same state.
+     *
+     * @return The state hash.
+     */
+    public long getStateHash() {
+        long hash = tickCount;
+        hash = mixHash(hash, user.getHealth());
+        hash = mixHash(hash, user.getTotalKills());
+        hash = mixHash(hash, Double.doubleToLongBits(difficultyFactor));
+        hash = hashActors(hash, friendlyUnits);
+        hash = hashActors(hash, enemyUnits);
+        hash = hashActors(hash, userProjectiles);
+        return hashActors(hash, enemyProjectiles);
+    }
+
+    /**
+     * Mixes the count, positions and health of a store of actors into a hash.
+     *
+     * @param hash The hash so far.
+     * @param actors The actors.
+     * @return The updated hash.
+     */
+    private static long hashActors(long hash, EntityStore actors) {
+        hash = mixHash(hash, actors.size());
+        for (int slot = 0; slot < actors.size(); slot++) {
+            hash = mixHash(hash, Double.doubleToLongBits(actors.x[slot]));
+            hash = mixHash(hash, Double.doubleToLongBits(actors.y[slot]));
+            if (actors.get(slot) instanceof FighterPlane) {
+                hash = mixHash(hash, actors.health[slot]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Mixes one value into a hash.
+     *
+     * @param hash The hash so far.
+     * @param value The value to mix in.
+     * @return The updated hash.
+     */
+    private static long mixHash(long hash, long value) {
+        long mixed = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 32);
+    }
+
+    /**
+     * Returns the profiler timing the phases of the level's simulation steps.
+     *
+     * @return The level's profiler.
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the projectile pools shared by the planes of this level.
+     *
+     * @return The level's projectile pools.
+     */
+    public ProjectilePools getProjectilePools() {
+        return projectilePools;
     }
 
     /**
@@ -556,6 +1140,25 @@ public abstract class LevelParent {
         return screenHeight;
     }
 
+    /**
+     * Returns the level's random number generator. Every random event in the level, including
+     * those decided by its planes, draws from this generator.
+     *
+     * @return The level's random number generator.
+     */
+    protected RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the seed the level's random number generator was created with.
+     *
+     * @return The level's seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
     /**
      * Returns the current difficulty factor of the game.
      *
@@ -575,7 +1178,7 @@ public abstract class LevelParent {
     }
 
     /**
-     * Updates the current number of enemy units by checking the size of the enemyUnits list.
+     * Updates the current number of enemy units by checking the size of the enemyUnits store.
      */
     private void updateNumberOfEnemies() {
         currentNumberOfEnemies = enemyUnits.size();
@@ -610,29 +1213,110 @@ public abstract class LevelParent {
             nextLevelButton.setDisable(true);  // Disable the button if it's the final level
         }
 
-        // Show the popup
+        // Show the popup, replacing any popup already open; it is closed when the level is disposed
+        closeWinPopup();
         Scene popupScene = new Scene(new StackPane(popupLayout), getScreenWidth(), getScreenHeight());
-        Stage popupStage = new Stage();
-        popupStage.setScene(popupScene);
-        popupStage.show();
+        winPopupStage = new Stage();
+        winPopupStage.setScene(popupScene);
+        winPopupStage.show();
+    }
+
+    /**
+     * Closes the win popup, if one is open.
+     */
+    private void closeWinPopup() {
+        if (winPopupStage != null) {
+            winPopupStage.close();
+            winPopupStage = null;
+        }
     }
 
     /**
-     * Redirects the user back to the main menu by creating a new instance of the MenuPage and displaying it.
+     * Redirects the user back to the main menu by disposing of the level, then creating a new
+     * instance of the MenuPage and displaying it.
      */
     private void backToMenu() {
-        MenuPage menuPage = new MenuPage(stage);  // Create an instance of MenuPage
+        Stage menuStage = stage;
+        dispose();
+        MenuPage menuPage = new MenuPage(menuStage);  // Create an instance of MenuPage
         menuPage.show();  // Show the menu page
     }
 
+    /**
+     * Releases everything the level holds once it is no longer played or shown. Stops the game
+     * loop or simulation thread, closes the win popup, removes the level's listeners and key
+     * handlers, empties its scene graph, renderer, view and actor stores, and drops its
+     * references to images, the scene and the input journals, which the next level may still use.
+     * <p>
+     * Disposing a level more than once has no further effect, and scene changes the level had
+     * queued for the JavaFX Application Thread are skipped. The level and its scene graph are
+     * handed to the {@link LeakDetector}. Must be called on the JavaFX Application Thread if the
+     * level is displayed.
+     * </p>
+     */
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        stopGameLoop();
+        gameLoop = null;
+        if (simulationThread != null) {
+            simulationThread.dispose();
+            simulationThread = null;
+        } else {
+            renderer.dispose();
+        }
+        renderer = LevelRenderer.HEADLESS;
+
+        levelName.removeListener(levelNameListener);
+        closeWinPopup();
+        if (levelView != null) {
+            levelView.dispose();
+            levelView = null;
+        }
+        if (background != null) {
+            background.setOnKeyPressed(null);
+            background.setOnKeyReleased(null);
+            background.setImage(null);
+            background = null;
+        }
+        if (root != null) {
+            root.getChildren().clear();
+            LeakDetector.watch(root, getClass().getSimpleName() + " scene graph");
+            root = null;
+        }
+        performanceOverlay = null;
+        scene = null;
+
+        friendlyUnits.clear();
+        enemyUnits.clear();
+        userProjectiles.clear();
+        enemyProjectiles.clear();
+        pendingCommands.clear();
+        inputRecorder = null;
+        inputReplay = null;
+        LeakDetector.watch(this, getClass().getSimpleName());
+    }
+
+    /**
+     * Returns whether the level has been disposed.
+     *
+     * @return True once {@link #dispose()} has been called, false otherwise.
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+
     /**
      * Clears the current level by stopping the game loop, stopping auto-firing, and removing all actors
      * and projectiles from the game scene.
      */
     protected void clearLevel() {
-        timeline.stop();            // Stop the game loop for the current level
-        autoFireTimeline.stop();    // Stop the auto-fire timeline
-        root.getChildren().clear(); // Remove all children (actors, projectiles, etc.)
+        stopGameLoop();             // Stop the game loop for the current level
+        if (root != null) {
+            root.getChildren().clear(); // Remove all children (actors, projectiles, etc.)
+        }
     }
 
     /**
@@ -650,9 +1334,101 @@ public abstract class LevelParent {
      * to the next level.
      */
     protected void goToNextLevel() {
-        timeline.stop();
+        stopGameLoop();
         cleanAssets(); // Clean all assets on current screen
-        goToLevel("com.example.demo.LevelTwo"); // Transition to LevelTwo
+        goToLevel(LevelRegistry.LEVEL_TWO); // Transition to LevelTwo
+    }
+
+    /**
+     * Ends the level with the given outcome and stops the game loop, if one is running.
+     *
+     * @param levelOutcome How the level ended.
+     */
+    private void endLevel(LevelOutcome levelOutcome) {
+        outcome = levelOutcome;
+        stopGameLoop();
+        if (inputRecorder != null) {
+            inputRecorder.flush();
+        }
+    }
+
+    /**
+     * Stops the game loop if the level is being played on the JavaFX pulse, or its simulation
+     * thread if it has one.
+     */
+    private void stopGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
+    }
+
+    /**
+     * Runs a change to the displayed scene on the JavaFX Application Thread: at once when called
+     * from it, or later when the level ends on its simulation thread, unless the level has been
+     * disposed by then.
+     *
+     * @param sceneChange the change to run
+     */
+    private void runOnDisplayThread(Runnable sceneChange) {
+        if (Platform.isFxApplicationThread()) {
+            sceneChange.run();
+        } else {
+            Platform.runLater(() -> {
+                if (!disposed) {
+                    sceneChange.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns whether the level has been given a scene to be displayed in.
+     *
+     * @return True if the level is displayed, false if it runs headless.
+     */
+    protected boolean isDisplayed() {
+        return scene != null;
+    }
+
+    /**
+     * Returns how the level has ended, or {@link LevelOutcome#IN_PROGRESS} while it is being played.
+     *
+     * @return The outcome of the level.
+     */
+    public LevelOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns whether the level has ended.
+     *
+     * @return True if the level has been won, lost or completed, false otherwise.
+     */
+    public boolean isFinished() {
+        return outcome != LevelOutcome.IN_PROGRESS;
+    }
+
+    /**
+     * Returns the fully qualified class name of the level to play next, once this level has
+     * ended with {@link LevelOutcome#ADVANCED}.
+     *
+     * @return The next level's class name, or {@code null} if there is none.
+     */
+    public String getNextLevelName() {
+        return nextLevelName;
+    }
+
+    /**
+     * Returns the seed for the level to play next, drawn from this level's generator when it
+     * ended with {@link LevelOutcome#ADVANCED}.
+     *
+     * @return The next level's seed.
+     */
+    public long getNextLevelSeed() {
+        return nextLevelSeed;
     }
 
     /**
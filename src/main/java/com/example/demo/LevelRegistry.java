@@ -0,0 +1,204 @@
+package com.example.demo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javafx.stage.Stage;
+
+/**
+ * The {@code LevelRegistry} class lists every level in the game, in the order they are played,
+ * and creates them by class name without reflection.
+ * <p>
+ * Each level is registered with its constructor, the level that follows it, and the assets it
+ * needs beyond those every level shares: its background and the collision masks of its enemies.
+ * {@link #preloadAssets(String, double, double)} loads those assets ahead of time with an
+ * {@link AssetPreloader}, so a displayed level can prepare the next one while it is played and
+ * the transition does not stall the JavaFX Application Thread decoding images.
+ * </p>
+ */
+public final class LevelRegistry {
+
+    /** The class name of the first level. */
+    public static final String LEVEL_ONE = "com.example.demo.LevelOne";
+
+    /** The class name of the second level. */
+    public static final String LEVEL_TWO = "com.example.demo.LevelTwo";
+
+    /** The class name of the final level. */
+    public static final String LEVEL_THREE = "com.example.demo.LevelThree";
+
+    /** The registered levels by class name, in the order they are played. */
+    private static final Map<String, Entry> LEVELS = new LinkedHashMap<>();
+
+    static {
+        register(LEVEL_ONE, LevelOne::new, LevelOne.BACKGROUND_IMAGE_NAME, LEVEL_TWO,
+                new Sprite(AssetCache.IMAGE_DIRECTORY + EnemyPlane.DEFAULT_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT));
+        register(LEVEL_TWO, LevelTwo::new, LevelTwo.BACKGROUND_IMAGE_NAME, LEVEL_THREE,
+                new Sprite(AssetCache.IMAGE_DIRECTORY + LevelTwo.ENEMY_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT));
+        register(LEVEL_THREE, LevelThree::new, LevelThree.BACKGROUND_IMAGE_NAME, null,
+                new Sprite(AssetCache.IMAGE_DIRECTORY + Boss.IMAGE_NAME, Boss.IMAGE_HEIGHT),
+                new Sprite(AssetCache.IMAGE_DIRECTORY + BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT));
+    }
+
+    /**
+     * Creates a level, matching the constructor every level provides.
+     */
+    @FunctionalInterface
+    public interface LevelFactory {
+
+        /**
+         * Creates a level.
+         *
+         * @param screenHeight the height of the screen
+         * @param screenWidth the width of the screen
+         * @param stage the stage the level is displayed on, or {@code null} to run it headless
+         * @param seed the seed of the level's random number generator
+         * @return the new level
+         */
+        LevelParent create(double screenHeight, double screenWidth, Stage stage, long seed);
+    }
+
+    /**
+     * A sprite at the height it is displayed at.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param height the displayed height
+     */
+    private record Sprite(String resourcePath, int height) {
+    }
+
+    /**
+     * A registered level.
+     *
+     * @param factory creates the level
+     * @param backgroundImage the classpath resource path of the level's background
+     * @param nextLevel the class name of the level that follows, or {@code null} for the final level
+     * @param sprites the sprites only this level uses
+     */
+    private record Entry(LevelFactory factory, String backgroundImage, String nextLevel, List<Sprite> sprites) {
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private LevelRegistry() {
+    }
+
+    /**
+     * Adds a level to the registry.
+     *
+     * @param className the fully qualified class name of the level
+     * @param factory creates the level
+     * @param backgroundImage the classpath resource path of the level's background
+     * @param nextLevel the class name of the level that follows, or {@code null} for the final level
+     * @param sprites the sprites only this level uses
+     */
+    private static void register(String className, LevelFactory factory, String backgroundImage, String nextLevel,
+                                 Sprite... sprites) {
+        LEVELS.put(className, new Entry(factory, backgroundImage, nextLevel, List.of(sprites)));
+    }
+
+    /**
+     * Returns the class names of every level, in the order they are played.
+     *
+     * @return the level names
+     */
+    public static List<String> getLevelNames() {
+        return List.copyOf(LEVELS.keySet());
+    }
+
+    /**
+     * Returns whether a level is registered under the given class name.
+     *
+     * @param className the fully qualified class name
+     * @return {@code true} if the level exists
+     */
+    public static boolean contains(String className) {
+        return LEVELS.containsKey(className);
+    }
+
+    /**
+     * Returns the level played after the given one.
+     *
+     * @param className the fully qualified class name of a level
+     * @return the class name of the next level, or {@code null} if the level is the last one
+     * @throws IllegalArgumentException if no level is registered under the name
+     */
+    public static String getNextLevel(String className) {
+        return lookup(className).nextLevel();
+    }
+
+    /**
+     * Creates a level by class name.
+     *
+     * @param className the fully qualified class name of the level
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param stage the stage the level is displayed on, or {@code null} to run it headless
+     * @param seed the seed of the level's random number generator
+     * @return the new level
+     * @throws IllegalArgumentException if no level is registered under the name
+     */
+    public static LevelParent create(String className, double screenHeight, double screenWidth, Stage stage, long seed) {
+        return lookup(className).factory().create(screenHeight, screenWidth, stage, seed);
+    }
+
+    /**
+     * Starts loading the assets a displayed level needs into the shared caches, each on a virtual
+     * thread of its own: the background at screen size, the texture atlas, and the collision
+     * masks of the level's sprites. Assets already cached are not loaded again, so calling this
+     * more than once is cheap. A failed asset is reported and otherwise left to load on first use.
+     *
+     * @param className the fully qualified class name of the level
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     * @return a future completing once every asset has been loaded or has failed
+     * @throws IllegalArgumentException if no level is registered under the name
+     */
+    public static CompletableFuture<Void> preloadAssets(String className, double screenWidth, double screenHeight) {
+        AssetPreloader preloader = new AssetPreloader();
+        addAssets(className, preloader, screenWidth, screenHeight);
+        return preloader.start().thenAccept(timings -> {
+            for (AssetPreloader.AssetTiming timing : timings) {
+                if (timing.failure() != null) {
+                    System.err.println("Failed to preload asset: " + timing.asset() + ": " + timing.failure());
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds the assets a displayed level needs to a preloader: the background at screen size, the
+     * texture atlas, and the collision masks of the level's sprites.
+     *
+     * @param className the fully qualified class name of the level
+     * @param preloader the preloader
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     * @throws IllegalArgumentException if no level is registered under the name
+     */
+    public static void addAssets(String className, AssetPreloader preloader, double screenWidth, double screenHeight) {
+        Entry entry = lookup(className);
+        preloader.addImage(entry.backgroundImage(), screenWidth, screenHeight, false);
+        TextureAtlas.addTo(preloader);
+        for (Sprite sprite : entry.sprites()) {
+            preloader.addCollisionMask(sprite.resourcePath(), sprite.height());
+        }
+    }
+
+    /**
+     * Returns the registered level with the given class name.
+     *
+     * @param className the fully qualified class name
+     * @return the level's entry
+     * @throws IllegalArgumentException if no level is registered under the name
+     */
+    private static Entry lookup(String className) {
+        Entry entry = LEVELS.get(className);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown level: " + className);
+        }
+        return entry;
+    }
+}
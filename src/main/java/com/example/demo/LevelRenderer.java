@@ -0,0 +1,72 @@
+package com.example.demo;
+
+/**
+ * The {@code LevelRenderer} interface defines how a level's actors are drawn.
+ * <p>
+ * A level notifies its renderer whenever an actor enters or leaves play, and asks it to draw
+ * a frame after each pulse of the game loop. Actors only hold simulation state, so a level
+ * running without a display simply uses {@link #HEADLESS}, which draws nothing.
+ * </p>
+ */
+public interface LevelRenderer {
+
+    /** A renderer that ignores every call, used when a level runs without a display. */
+    LevelRenderer HEADLESS = new LevelRenderer() {
+        @Override
+        public void addActor(ActiveActor actor) {
+        }
+
+        @Override
+        public void removeActor(ActiveActor actor, boolean keepForReuse) {
+        }
+
+        @Override
+        public void flushRemovals() {
+        }
+
+        @Override
+        public void render(double alpha) {
+        }
+
+        @Override
+        public void dispose() {
+        }
+    };
+
+    /**
+     * Starts drawing an actor that has entered play, such as a spawned enemy or a fired projectile.
+     * Adding an actor that was previously removed with {@code keepForReuse} shows it again.
+     *
+     * @param actor the actor to draw
+     */
+    void addActor(ActiveActor actor);
+
+    /**
+     * Stops drawing an actor that has left play.
+     *
+     * @param actor the actor to stop drawing
+     * @param keepForReuse {@code true} if the actor is pooled and may be added again, in which case
+     *                     the renderer may keep its resources; {@code false} to release them
+     */
+    void removeActor(ActiveActor actor, boolean keepForReuse);
+
+    /**
+     * Applies the removals made since the last call in one batch. Levels call this once per tick
+     * after sweeping destroyed actors.
+     */
+    void flushRemovals();
+
+    /**
+     * Draws every actor at its position interpolated between the previous and current simulation steps.
+     *
+     * @param alpha how far the frame lies between the previous step (0) and the current step (1)
+     */
+    void render(double alpha);
+
+    /**
+     * Releases every node, sprite and image reference the renderer holds once its level is
+     * disposed. The renderer draws nothing afterwards.
+     */
+    void dispose();
+
+}
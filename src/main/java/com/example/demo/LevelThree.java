@@ -10,7 +10,7 @@ import javafx.stage.Stage;
 public class LevelThree extends LevelParent {
 
     // Path to the background image for the level.
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg";
 
     // Initial health for the player in this level.
     private static final int PLAYER_INITIAL_HEALTH = 5;
@@ -20,16 +20,29 @@ public class LevelThree extends LevelParent {
 
     /**
      * Constructor for LevelThree. Sets the background image, screen dimensions, 
-     * and initializes the boss enemy.
+     * and initializes the boss enemy, seeded with {@link GameRandom#defaultSeed()}.
      *
      * @param screenHeight The height of the game screen.
      * @param screenWidth The width of the game screen.
      * @param stage The stage in which the level will be displayed.
      */
     public LevelThree(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, stage, GameRandom.defaultSeed());
+    }
+
+    /**
+     * Constructor for LevelThree with an explicit random seed. The boss shares the level's
+     * generator, which also shuffles its initial move pattern.
+     *
+     * @param screenHeight The height of the game screen.
+     * @param screenWidth The width of the game screen.
+     * @param stage The stage in which the level will be displayed.
+     * @param seed The seed of the level's random number generator.
+     */
+    public LevelThree(double screenHeight, double screenWidth, Stage stage, long seed) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
         this.stage = stage;
-        this.boss = new Boss();
+        this.boss = new Boss(getRandom());
     }
 
     /**
@@ -38,7 +51,7 @@ public class LevelThree extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@code LevelTransitionEvent} class is a Flight Recorder event timing a switch to a new level,
+ * broken down into constructing the level, building its scene graph, putting it on screen and
+ * starting it.
+ * <p>
+ * Call {@link #beginTransition(String, String)} first, then each {@code end} method as its step
+ * finishes, and finally {@link #commit()}. {@link #getSummary()} reports the same timings when
+ * no recording is running.
+ * </p>
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("Loading, constructing and starting a level")
+@StackTrace(false)
+public class LevelTransitionEvent extends Event {
+
+    @Label("From Level")
+    String fromLevel;
+
+    @Label("To Level")
+    String toLevel;
+
+    @Label("Construction")
+    @Timespan
+    long construction;
+
+    @Label("Scene Initialization")
+    @Description("Building the level's scene graph")
+    @Timespan
+    long sceneInitialization;
+
+    @Label("Root Swap")
+    @Description("Putting the level's scene graph on screen")
+    @Timespan
+    long rootSwap;
+
+    @Label("Game Start")
+    @Timespan
+    long gameStart;
+
+    private transient long stepStartNanos;
+
+    /**
+     * Starts timing a transition.
+     *
+     * @param from the class name of the level being left, or {@code null} when starting from the menu
+     * @param to the class name of the level being entered
+     */
+    public void beginTransition(String from, String to) {
+        fromLevel = from;
+        toLevel = to;
+        begin();
+        stepStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of constructing the level.
+     */
+    public void endConstruction() {
+        construction = lap();
+    }
+
+    /**
+     * Marks the end of building the level's scene.
+     */
+    public void endSceneInitialization() {
+        sceneInitialization = lap();
+    }
+
+    /**
+     * Marks the end of putting the level's scene graph on screen.
+     */
+    public void endRootSwap() {
+        rootSwap = lap();
+    }
+
+    /**
+     * Marks the end of starting the level's game loop.
+     */
+    public void endGameStart() {
+        gameStart = lap();
+    }
+
+    /**
+     * Returns a one-line summary of the transition's timings, suitable for logging.
+     *
+     * @return the total duration of the steps and the duration of each
+     */
+    public String getSummary() {
+        long total = construction + sceneInitialization + rootSwap + gameStart;
+        return String.format("Transition to %s: %.2f ms (construction %.2f, scene %.2f, root swap %.2f, start %.2f)",
+                toLevel, total / 1e6, construction / 1e6, sceneInitialization / 1e6, rootSwap / 1e6, gameStart / 1e6);
+    }
+
+    /**
+     * Returns the time since the previous step ended and starts timing the next one.
+     *
+     * @return the duration of the step in nanoseconds
+     */
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - stepStartNanos;
+        stepStartNanos = now;
+        return elapsed;
+    }
+}
@@ -10,7 +10,8 @@ import javafx.stage.Stage;
 public class LevelTwo extends LevelParent {
 
     // Path to the background image for this level.
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+    static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+    static final String ENEMY_IMAGE_NAME = "EnemyPlane2.png";
 
     // Total number of enemies to spawn in the level.
     private static final int TOTAL_ENEMIES = 10;
@@ -26,14 +27,26 @@ public class LevelTwo extends LevelParent {
 
     /**
      * Constructor for LevelTwo. Sets the background image, screen dimensions, 
-     * and initializes the level with player health.
+     * and initializes the level with player health, seeded with {@link GameRandom#defaultSeed()}.
      *
      * @param screenHeight The height of the game screen.
      * @param screenWidth The width of the game screen.
      * @param stage The stage in which the level will be displayed.
      */
     public LevelTwo(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, stage, GameRandom.defaultSeed());
+    }
+
+    /**
+     * Constructor for LevelTwo with an explicit random seed.
+     *
+     * @param screenHeight The height of the game screen.
+     * @param screenWidth The width of the game screen.
+     * @param stage The stage in which the level will be displayed.
+     * @param seed The seed of the level's random number generator.
+     */
+    public LevelTwo(double screenHeight, double screenWidth, Stage stage, long seed) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
         this.stage = stage;
     }
 
@@ -48,7 +61,7 @@ public class LevelTwo extends LevelParent {
         if (userIsDestroyed()) {
             loseGame();
         } else if (userHasReachedKillTarget()) {
-            goToLevel("com.example.demo.LevelThree");
+            goToLevel(LevelRegistry.LEVEL_THREE);
         }
     }
 
@@ -58,7 +71,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
@@ -70,9 +83,9 @@ public class LevelTwo extends LevelParent {
     protected void spawnEnemyUnits() {
         int currentNumberOfEnemies = getCurrentNumberOfEnemies();
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < getSpawnProbability()) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getDifficultyFactor(), "EnemyPlane2.png"); // Use EnemyPlane2.png
+            if (getRandom().nextDouble() < getSpawnProbability()) {
+                double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getDifficultyFactor(), ENEMY_IMAGE_NAME);
                 addEnemyUnit(newEnemy);
             }
         }
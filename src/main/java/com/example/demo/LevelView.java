@@ -1,11 +1,20 @@
 package com.example.demo;
 
 import javafx.scene.Group;
+import javafx.scene.layout.HBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
 
 /**
  * The LevelView class is responsible for displaying the visual elements of the game level, including
  * the heart display, win image, and game over image. It provides methods to update and manage these 
  * visual elements based on the game's progress.
+ * <p>
+ * The heads-up display (the hearts and a score, kills and frames-per-second readout) is updated
+ * with dirty checks: the level reports the current values every frame, and the view compares each
+ * one with the value it shows and only changes a node when the value has changed. A frame where
+ * nothing changed therefore touches no node and builds no string.
+ * </p>
  */
 public class LevelView {
 
@@ -16,12 +25,30 @@ public class LevelView {
     private static final int WIN_IMAGE_Y_POSITION = 175;
     private static final int LOSS_SCREEN_X_POSITION = -160;
     private static final int LOSS_SCREEN_Y_POSITION = -375;
+    private static final double READOUT_X_POSITION = 10;
+    private static final double READOUT_Y_POSITION = 85;
+    private static final double READOUT_SPACING = 25;
+    private static final long FPS_WINDOW_NANOS = 1_000_000_000L;
 
     // References to the visual elements displayed during the game.
     private final Group root;
     private final WinImage winImage;
     private final GameOverImage gameOverImage;
     private final HeartDisplay heartDisplay;
+    private final HBox readout;
+    private final Text scoreText;
+    private final Text killsText;
+    private final Text fpsText;
+
+    // The values on display, compared with each update so nodes only change with their values.
+    private int shownHealth;
+    private int shownScore = -1;
+    private int shownKills = -1;
+    private int shownFps = -1;
+
+    // Frames drawn since the frames-per-second reading was last taken.
+    private long fpsWindowStartNanos;
+    private int framesInFpsWindow;
 
     /**
      * Constructor for the LevelView class.
@@ -33,6 +60,17 @@ public class LevelView {
     public LevelView(Group root, int heartsToDisplay) {
         this.root = root;
         this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
+        this.shownHealth = heartsToDisplay;
+        this.scoreText = createReadoutText();
+        this.killsText = createReadoutText();
+        this.fpsText = createReadoutText();
+        this.readout = new HBox(READOUT_SPACING, scoreText, killsText, fpsText);
+        this.readout.setLayoutX(READOUT_X_POSITION);
+        this.readout.setLayoutY(READOUT_Y_POSITION);
+        this.readout.setMouseTransparent(true);
+        showScore(0);
+        showKills(0);
+        showFps(0);
         this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
         this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSITION);
     }
@@ -45,6 +83,13 @@ public class LevelView {
         root.getChildren().add(heartDisplay.getContainer());
     }
 
+    /**
+     * Displays the score, kills and frames-per-second readout below the hearts.
+     */
+    public void showReadout() {
+        root.getChildren().add(readout);
+    }
+
     /**
      * Displays the win image on the screen.
      * Adds the win image to the root group and shows it.
@@ -62,19 +107,96 @@ public class LevelView {
         root.getChildren().add(gameOverImage);
     }
 
+    /**
+     * Shows the player's health as hearts. The hearts only change when the health differs from
+     * the health shown.
+     *
+     * @param health The player's current health.
+     */
+    public void showHealth(int health) {
+        if (health != shownHealth) {
+            shownHealth = health;
+            heartDisplay.showHearts(health);
+        }
+    }
+
     /**
      * Removes hearts from the display based on the number of hearts remaining.
-     * It updates the heart display by removing hearts to reflect the current health.
      *
      * @param heartsRemaining The number of hearts to be displayed after removal.
      */
     public void removeHearts(int heartsRemaining) {
-        int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-        for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-            heartDisplay.removeHeart();
+        showHealth(heartsRemaining);
+    }
+
+    /**
+     * Shows the player's score. The text only changes when the score differs from the score shown.
+     *
+     * @param score The player's current score.
+     */
+    public void showScore(int score) {
+        if (score != shownScore) {
+            shownScore = score;
+            scoreText.setText("Score " + score);
+        }
+    }
+
+    /**
+     * Shows the player's kills in the level. The text only changes when the count differs from the count shown.
+     *
+     * @param kills The number of kills the player has made.
+     */
+    public void showKills(int kills) {
+        if (kills != shownKills) {
+            shownKills = kills;
+            killsText.setText("Kills " + kills);
         }
     }
 
+    /**
+     * Counts a drawn frame, and shows the frame rate once a second. The text only changes when
+     * the rate differs from the rate shown.
+     *
+     * @param nowNanos The {@link System#nanoTime()} at which the frame was drawn.
+     */
+    public void frameDrawn(long nowNanos) {
+        if (fpsWindowStartNanos == 0) {
+            fpsWindowStartNanos = nowNanos;
+            return;
+        }
+        framesInFpsWindow++;
+        long elapsedNanos = nowNanos - fpsWindowStartNanos;
+        if (elapsedNanos >= FPS_WINDOW_NANOS) {
+            showFps((int) Math.round(framesInFpsWindow * 1e9 / elapsedNanos));
+            fpsWindowStartNanos = nowNanos;
+            framesInFpsWindow = 0;
+        }
+    }
+
+    /**
+     * Shows the frame rate, if it differs from the rate shown.
+     *
+     * @param fps The number of frames drawn per second.
+     */
+    private void showFps(int fps) {
+        if (fps != shownFps) {
+            shownFps = fps;
+            fpsText.setText("FPS " + fps);
+        }
+    }
+
+    /**
+     * Creates one text of the readout.
+     *
+     * @return The text node.
+     */
+    private static Text createReadoutText() {
+        Text text = new Text();
+        text.setFont(Font.font("Arial", 20));
+        text.setStyle("-fx-fill: white; -fx-effect: dropshadow(gaussian, black, 3, 0.5, 0, 1);");
+        return text;
+    }
+
     /**
      * Clears all child nodes from the root group.
      * This method is used to remove all visual elements from the screen during cleanup.
@@ -82,4 +204,15 @@ public class LevelView {
     public void clearView() {
         root.getChildren().clear();
     }
+
+    /**
+     * Releases the view once its level is disposed: removes every element from the root group
+     * and drops the hearts and the images of the win and game over screens.
+     */
+    public void dispose() {
+        clearView();
+        heartDisplay.getContainer().getChildren().clear();
+        winImage.setImage(null);
+        gameOverImage.setImage(null);
+    }
 }
@@ -55,4 +55,13 @@ public class LevelViewLevelThree extends LevelView {
     public void hideShield() {
         shieldImage.hideShield();
     }
+
+    /**
+     * Releases the view once its level is disposed, including the shield image.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        shieldImage.setImage(null);
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.demo;
+
+/**
+ * The {@code NestedLoopBroadphase} class reports every pair of actors as a candidate.
+ * It performs no culling and is kept as the reference implementation that the other
+ * broadphases are compared against.
+ */
+public class NestedLoopBroadphase implements CollisionBroadphase {
+
+	/**
+	 * Visits every combination of an actor from the first store with an actor from the second store.
+	 *
+	 * @param firstActors the first store of actors
+	 * @param secondActors the second store of actors
+	 * @param pairHandler the handler receiving each pair
+	 */
+	@Override
+	public void findCandidatePairs(EntityStore firstActors, EntityStore secondActors, CollisionPairHandler pairHandler) {
+		for (int first = 0; first < firstActors.size(); first++) {
+			for (int second = 0; second < secondActors.size(); second++) {
+				pairHandler.handlePair(firstActors, first, secondActors, second);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.example.demo;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+
+/**
+ * The {@code PerformanceOverlay} class shows a level's {@link TickProfiler} summary on top of the game:
+ * the p50, p99 and maximum duration of every phase, the entity count, allocations per tick and
+ * garbage collections.
+ * <p>
+ * The overlay starts hidden and is toggled by the player. While visible, its text is rebuilt at
+ * most four times a second, so reading it does not disturb the timings it reports.
+ * </p>
+ */
+public class PerformanceOverlay {
+
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+    private static final double WIDTH = 330;
+    private static final String STYLE = "-fx-background-color: rgba(0, 0, 0, 0.65); -fx-text-fill: white; "
+            + "-fx-font-family: monospace; -fx-font-size: 12px; -fx-padding: 6;";
+
+    private final Label label;
+    private long lastRefreshNanos;
+
+    /**
+     * Constructs a hidden {@code PerformanceOverlay} in the top-right corner of a screen of the given width.
+     *
+     * @param screenWidth the width of the screen
+     * @param yPosition the Y position of the overlay's top edge
+     */
+    public PerformanceOverlay(double screenWidth, double yPosition) {
+        label = new Label();
+        label.setStyle(STYLE);
+        label.setMinWidth(WIDTH);
+        label.setLayoutX(screenWidth - WIDTH - 10);
+        label.setLayoutY(yPosition);
+        label.setMouseTransparent(true);
+        label.setVisible(false);
+    }
+
+    /**
+     * Returns the node to add to the scene.
+     *
+     * @return the overlay node
+     */
+    public Node getNode() {
+        return label;
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        label.setVisible(!label.isVisible());
+        lastRefreshNanos = 0;
+    }
+
+    /**
+     * Returns whether the overlay is shown.
+     *
+     * @return {@code true} if the overlay is visible
+     */
+    public boolean isVisible() {
+        return label.isVisible();
+    }
+
+    /**
+     * Updates the overlay from the profiler, if it is visible and its last update is old enough.
+     *
+     * @param profiler the profiler of the level being played
+     */
+    public void refresh(TickProfiler profiler) {
+        if (!label.isVisible()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastRefreshNanos == 0 || now - lastRefreshNanos >= REFRESH_INTERVAL_NANOS) {
+            lastRefreshNanos = now;
+            label.setText(profiler.getSummary());
+        }
+    }
+
+    /**
+     * Updates the overlay with a summary taken on the simulating thread, if it is visible. The
+     * simulating thread decides how often to take one.
+     *
+     * @param summary the profiler summary of the level being played
+     */
+    public void refresh(String summary) {
+        if (label.isVisible()) {
+            label.setText(summary);
+        }
+    }
+}
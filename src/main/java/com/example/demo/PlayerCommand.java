@@ -0,0 +1,62 @@
+package com.example.demo;
+
+/**
+ * The {@code PlayerCommand} enum lists the movement commands the player can give the user plane.
+ * <p>
+ * Key presses are translated into commands and queued by the level, which applies them at the start
+ * of its next simulation step. Commands are therefore independent of the key binding in use and
+ * can be recorded by an {@link InputRecorder} and replayed by an {@link InputReplay} at exactly the same step.
+ * </p>
+ */
+public enum PlayerCommand {
+
+    /** Starts moving the plane up. */
+    MOVE_UP,
+
+    /** Starts moving the plane down. */
+    MOVE_DOWN,
+
+    /** Starts moving the plane left. */
+    MOVE_LEFT,
+
+    /** Starts moving the plane right. */
+    MOVE_RIGHT,
+
+    /** Stops the plane's vertical movement. */
+    STOP_VERTICAL,
+
+    /** Stops the plane's horizontal movement. */
+    STOP_HORIZONTAL;
+
+    private static final PlayerCommand[] COMMANDS = values();
+
+    /**
+     * Applies the command to the user plane.
+     *
+     * @param user the player's plane
+     */
+    public void applyTo(UserPlane user) {
+        switch (this) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case MOVE_LEFT -> user.moveLeft();
+            case MOVE_RIGHT -> user.moveRight();
+            case STOP_VERTICAL -> user.stop();
+            case STOP_HORIZONTAL -> user.stopHorizontalMovement();
+        }
+    }
+
+    /**
+     * Returns the command with the given code, as written to a journal.
+     *
+     * @param code the command's ordinal
+     * @return the command
+     * @throws IllegalArgumentException if no command has that code
+     */
+    static PlayerCommand fromCode(int code) {
+        if (code < 0 || code >= COMMANDS.length) {
+            throw new IllegalArgumentException("Unknown player command code: " + code);
+        }
+        return COMMANDS[code];
+    }
+}
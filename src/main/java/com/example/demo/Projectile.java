@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-
 /**
  * The Projectile class is an abstract class that represents a projectile in the game. 
  * It extends the ActiveActorDestructible class, meaning it has properties and behaviors
@@ -11,6 +9,9 @@ import javafx.scene.image.Image;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+    /** The pool this projectile is recycled through, or {@code null} if it is not pooled. */
+    private ProjectilePool<?> pool;
+
     /**
      * Constructor for the Projectile class. Initializes the projectile with an image, 
      * image height, and initial position on the screen.
@@ -22,8 +23,46 @@ public abstract class Projectile extends ActiveActorDestructible {
      */
     public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
         // Calls the constructor of the superclass with the image and position details.
-        super(new Image(Projectile.class.getResourceAsStream("/com/example/demo/images/" + imageName)), 
-              imageHeight, initialXPos, initialYPos);
+        super(AssetCache.IMAGE_DIRECTORY + imageName, imageHeight, initialXPos, initialYPos);
+    }
+
+    /**
+     * Resets the projectile in place so it can be fired again: it is moved to the given position
+     * and marked as not destroyed.
+     *
+     * @param initialXPos The new X position of the projectile on the screen.
+     * @param initialYPos The new Y position of the projectile on the screen.
+     */
+    public void reset(double initialXPos, double initialYPos) {
+        placeAt(initialXPos, initialYPos);
+        setDestroyed(false);
+    }
+
+    /**
+     * Returns the pool this projectile belongs to.
+     *
+     * @return the owning pool, or {@code null} if the projectile is not pooled
+     */
+    public ProjectilePool<?> getPool() {
+        return pool;
+    }
+
+    /**
+     * Assigns the pool this projectile belongs to. Called by the pool when it creates the projectile.
+     *
+     * @param pool the owning pool
+     */
+    void setPool(ProjectilePool<?> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a destroyed projectile to its pool, if it has one.
+     *
+     * @return {@code true} if the pool kept the projectile for reuse; {@code false} if it should be discarded
+     */
+    public boolean returnToPool() {
+        return pool != null && pool.release(this);
     }
 
     /**
@@ -42,4 +81,14 @@ public abstract class Projectile extends ActiveActorDestructible {
      */
     @Override
     public abstract void updatePosition();
+
+    /**
+     * Projectiles fly at a constant velocity, so the level moves them in bulk.
+     *
+     * @return {@code true}
+     */
+    @Override
+    protected boolean isKinematic() {
+        return true;
+    }
 }
@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The {@code ProjectilePool} class recycles projectiles of a single type.
+ * <p>
+ * Acquiring a projectile reuses a released one when available, resetting it in place, and only
+ * constructs a new projectile when the pool is empty (a miss). Renderers keep the node of a
+ * released projectile hidden rather than detached, so it can be shown again when reused.
+ * At most {@code capacity} idle projectiles are retained; any further releases are rejected and
+ * left for the garbage collector.
+ * </p>
+ *
+ * @param <T> the type of projectile held by the pool
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final List<T> idleProjectiles;
+
+    private int projectilesInUse;
+    private int highWaterMark;
+    private long acquireCount;
+    private long missCount;
+
+    /**
+     * Constructs a {@code ProjectilePool} with the given factory and capacity.
+     *
+     * @param name the name of the pool, used in statistics
+     * @param factory creates a new projectile when the pool is empty
+     * @param capacity the maximum number of idle projectiles retained for reuse
+     */
+    public ProjectilePool(String name, Supplier<T> factory, int capacity) {
+        this.name = name;
+        this.factory = factory;
+        this.capacity = capacity;
+        this.idleProjectiles = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Returns a projectile positioned at the given coordinates, ready to be fired.
+     * An idle projectile is reused when available; otherwise a new one is created.
+     *
+     * @param initialXPos the initial X-coordinate position of the projectile
+     * @param initialYPos the initial Y-coordinate position of the projectile
+     * @return a live projectile owned by this pool
+     */
+    public T acquire(double initialXPos, double initialYPos) {
+        T projectile;
+        if (idleProjectiles.isEmpty()) {
+            projectile = factory.get();
+            projectile.setPool(this);
+            missCount++;
+        } else {
+            projectile = idleProjectiles.remove(idleProjectiles.size() - 1);
+        }
+        projectile.reset(initialXPos, initialYPos);
+        acquireCount++;
+        projectilesInUse++;
+        highWaterMark = Math.max(highWaterMark, projectilesInUse);
+        return projectile;
+    }
+
+    /**
+     * Returns a destroyed projectile to the pool. The projectile is kept for reuse unless the
+     * pool is already holding its maximum number of idle projectiles.
+     *
+     * @param projectile a projectile previously acquired from this pool
+     * @return {@code true} if the projectile was retained; {@code false} if it should be discarded
+     * @throws IllegalArgumentException if the projectile does not belong to this pool
+     */
+    public boolean release(Projectile projectile) {
+        if (projectile.getPool() != this) {
+            throw new IllegalArgumentException("Projectile does not belong to pool " + name);
+        }
+        projectilesInUse--;
+        if (idleProjectiles.size() >= capacity) {
+            return false;
+        }
+        @SuppressWarnings("unchecked") // Only projectiles created by this pool's factory pass the ownership check.
+        T pooled = (T) projectile;
+        idleProjectiles.add(pooled);
+        return true;
+    }
+
+    /**
+     * Returns the maximum number of idle projectiles retained by the pool.
+     *
+     * @return the pool capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of projectiles currently waiting to be reused.
+     *
+     * @return the number of idle projectiles
+     */
+    public int getIdleCount() {
+        return idleProjectiles.size();
+    }
+
+    /**
+     * Returns the largest number of projectiles from this pool that were live at the same time.
+     *
+     * @return the high-water mark of live projectiles
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Returns the number of acquisitions that had to construct a new projectile.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns a one-line summary of the pool metrics, suitable for logging.
+     *
+     * @return the pool statistics
+     */
+    public String getStatistics() {
+        return String.format("%s pool: %d acquired, %d misses, high-water %d, %d/%d idle",
+                name, acquireCount, missCount, highWaterMark, idleProjectiles.size(), capacity);
+    }
+}
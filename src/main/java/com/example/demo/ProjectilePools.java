@@ -0,0 +1,65 @@
+package com.example.demo;
+
+/**
+ * The {@code ProjectilePools} class groups the projectile pools used by one level, one per projectile type.
+ * <p>
+ * The number of idle projectiles each pool retains can be configured with the system properties
+ * {@code skybattle.pool.user}, {@code skybattle.pool.enemy} and {@code skybattle.pool.boss}.
+ * </p>
+ */
+public class ProjectilePools {
+
+    private static final int USER_POOL_CAPACITY = Integer.getInteger("skybattle.pool.user", 32);
+    private static final int ENEMY_POOL_CAPACITY = Integer.getInteger("skybattle.pool.enemy", 64);
+    private static final int BOSS_POOL_CAPACITY = Integer.getInteger("skybattle.pool.boss", 32);
+
+    private final ProjectilePool<UserProjectile> userProjectilePool;
+    private final ProjectilePool<EnemyProjectile> enemyProjectilePool;
+    private final ProjectilePool<BossProjectile> bossProjectilePool;
+
+    /**
+     * Constructs a set of empty projectile pools with the configured capacities.
+     */
+    public ProjectilePools() {
+        this.userProjectilePool = new ProjectilePool<>("User", () -> new UserProjectile(0, 0), USER_POOL_CAPACITY);
+        this.enemyProjectilePool = new ProjectilePool<>("Enemy", () -> new EnemyProjectile(0, 0), ENEMY_POOL_CAPACITY);
+        this.bossProjectilePool = new ProjectilePool<>("Boss", () -> new BossProjectile(0), BOSS_POOL_CAPACITY);
+    }
+
+    /**
+     * Returns the pool of projectiles fired by the user's plane.
+     *
+     * @return the user projectile pool
+     */
+    public ProjectilePool<UserProjectile> getUserProjectilePool() {
+        return userProjectilePool;
+    }
+
+    /**
+     * Returns the pool of projectiles fired by enemy planes.
+     *
+     * @return the enemy projectile pool
+     */
+    public ProjectilePool<EnemyProjectile> getEnemyProjectilePool() {
+        return enemyProjectilePool;
+    }
+
+    /**
+     * Returns the pool of projectiles fired by the boss.
+     *
+     * @return the boss projectile pool
+     */
+    public ProjectilePool<BossProjectile> getBossProjectilePool() {
+        return bossProjectilePool;
+    }
+
+    /**
+     * Returns the statistics of every pool, one pool per line.
+     *
+     * @return the pool statistics
+     */
+    public String getStatistics() {
+        return String.join(System.lineSeparator(), userProjectilePool.getStatistics(),
+                enemyProjectilePool.getStatistics(), bossProjectilePool.getStatistics());
+    }
+}
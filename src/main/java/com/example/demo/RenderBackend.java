@@ -0,0 +1,55 @@
+package com.example.demo;
+
+import java.util.Locale;
+import javafx.scene.Group;
+
+/**
+ * The {@code RenderBackend} enum lists the ways a displayed level can draw its actors.
+ * <p>
+ * The backend is chosen at launch with the {@code skybattle.renderer} system property, set either
+ * directly or through the game's {@code --renderer=<name>} argument. Game logic only works
+ * against actor state, so both backends play identically.
+ * </p>
+ */
+public enum RenderBackend {
+
+    /** One image node per actor, see {@link SceneGraphRenderer}. */
+    SCENE_GRAPH,
+
+    /** All actors drawn onto one canvas, see {@link CanvasRenderer}. */
+    CANVAS;
+
+    /** The name of the system property selecting the backend. */
+    public static final String PROPERTY = "skybattle.renderer";
+
+    /**
+     * Returns the backend named by the {@code skybattle.renderer} system property, or
+     * {@link #SCENE_GRAPH} if it is not set. Names are case-insensitive, and dashes may be used
+     * in place of underscores, as in {@code scene-graph}.
+     *
+     * @return the selected backend
+     * @throws IllegalArgumentException if the property names no backend
+     */
+    public static RenderBackend fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return SCENE_GRAPH;
+        }
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Creates a renderer of this type that draws into the given layer.
+     *
+     * @param layer the group the renderer adds its nodes to
+     * @param width the width of the playfield
+     * @param height the height of the playfield
+     * @return the new renderer
+     */
+    public LevelRenderer createRenderer(Group layer, double width, double height) {
+        return switch (this) {
+            case SCENE_GRAPH -> new SceneGraphRenderer(layer);
+            case CANVAS -> new CanvasRenderer(layer, width, height);
+        };
+    }
+}
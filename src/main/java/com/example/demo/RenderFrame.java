@@ -0,0 +1,284 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RenderFrame} class is the snapshot of one simulation tick that a
+ * {@link SimulationThread} hands from the simulating thread to the JavaFX Application Thread.
+ * <p>
+ * A frame records the actors that entered and left play during its tick, in order, followed by
+ * the previous and current position of every actor in play at the end of the tick and the state
+ * the HUD shows. The simulating thread fills a frame and publishes it; from then on only the
+ * JavaFX Application Thread reads it, until it hands the frame back to be reused. A frame is
+ * therefore never written and read at the same time, and the buffers settle at a handful of
+ * frames that are reused for the rest of the level.
+ * </p>
+ */
+public final class RenderFrame {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** An actor that entered play. */
+    static final byte ADDED = 0;
+
+    /** An actor that left play and may be shown again, such as a pooled projectile. */
+    static final byte REMOVED_FOR_REUSE = 1;
+
+    /** An actor that left play for good. */
+    static final byte REMOVED = 2;
+
+    private ActiveActor[] eventActors = new ActiveActor[INITIAL_CAPACITY];
+    private byte[] eventKinds = new byte[INITIAL_CAPACITY];
+    private int eventCount;
+
+    private ActiveActor[] actors = new ActiveActor[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private int actorCount;
+
+    private long publishedNanos;
+    private int userHealth;
+    private int userKills;
+    private int score;
+    private String profilerSummary;
+
+    /**
+     * Records that an actor entered or left play during the tick.
+     *
+     * @param actor the actor
+     * @param kind {@link #ADDED}, {@link #REMOVED_FOR_REUSE} or {@link #REMOVED}
+     */
+    void recordEvent(ActiveActor actor, byte kind) {
+        if (eventCount == eventActors.length) {
+            eventActors = Arrays.copyOf(eventActors, eventCount * 2);
+            eventKinds = Arrays.copyOf(eventKinds, eventCount * 2);
+        }
+        eventActors[eventCount] = actor;
+        eventKinds[eventCount] = kind;
+        eventCount++;
+    }
+
+    /**
+     * Copies the previous and current position of every actor in a store into the frame.
+     *
+     * @param store the store
+     */
+    void capture(EntityStore store) {
+        int size = store.size();
+        ensureCapacity(actorCount + size);
+        System.arraycopy(store.actors, 0, actors, actorCount, size);
+        System.arraycopy(store.previousX, 0, previousX, actorCount, size);
+        System.arraycopy(store.previousY, 0, previousY, actorCount, size);
+        System.arraycopy(store.x, 0, x, actorCount, size);
+        System.arraycopy(store.y, 0, y, actorCount, size);
+        actorCount += size;
+    }
+
+    /**
+     * Returns the number of actors that entered or left play during the tick.
+     *
+     * @return the event count
+     */
+    int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the actor of an event.
+     *
+     * @param index the index of the event, in the order the events happened
+     * @return the actor
+     */
+    ActiveActor getEventActor(int index) {
+        return eventActors[index];
+    }
+
+    /**
+     * Returns the kind of an event.
+     *
+     * @param index the index of the event, in the order the events happened
+     * @return {@link #ADDED}, {@link #REMOVED_FOR_REUSE} or {@link #REMOVED}
+     */
+    byte getEventKind(int index) {
+        return eventKinds[index];
+    }
+
+    /**
+     * Returns the number of actors in play at the end of the tick.
+     *
+     * @return the actor count
+     */
+    int getActorCount() {
+        return actorCount;
+    }
+
+    /**
+     * Returns an actor in play at the end of the tick.
+     *
+     * @param index the actor's index in the frame
+     * @return the actor
+     */
+    ActiveActor getActor(int index) {
+        return actors[index];
+    }
+
+    /**
+     * Returns an actor's X-coordinate at the start of the tick.
+     *
+     * @param index the actor's index in the frame
+     * @return the previous X-coordinate of the actor's left edge
+     */
+    double getPreviousX(int index) {
+        return previousX[index];
+    }
+
+    /**
+     * Returns an actor's Y-coordinate at the start of the tick.
+     *
+     * @param index the actor's index in the frame
+     * @return the previous Y-coordinate of the actor's top edge
+     */
+    double getPreviousY(int index) {
+        return previousY[index];
+    }
+
+    /**
+     * Returns an actor's X-coordinate at the end of the tick.
+     *
+     * @param index the actor's index in the frame
+     * @return the X-coordinate of the actor's left edge
+     */
+    double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns an actor's Y-coordinate at the end of the tick.
+     *
+     * @param index the actor's index in the frame
+     * @return the Y-coordinate of the actor's top edge
+     */
+    double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns when the frame was published.
+     *
+     * @return the {@link System#nanoTime()} at publication
+     */
+    long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * Sets when the frame was published.
+     *
+     * @param publishedNanos the {@link System#nanoTime()} at publication
+     */
+    void setPublishedNanos(long publishedNanos) {
+        this.publishedNanos = publishedNanos;
+    }
+
+    /**
+     * Returns the user plane's health at the end of the tick.
+     *
+     * @return the user's health
+     */
+    int getUserHealth() {
+        return userHealth;
+    }
+
+    /**
+     * Sets the user plane's health at the end of the tick.
+     *
+     * @param userHealth the user's health
+     */
+    void setUserHealth(int userHealth) {
+        this.userHealth = userHealth;
+    }
+
+    /**
+     * Returns the user's kills in the level at the end of the tick.
+     *
+     * @return the user's kills
+     */
+    int getUserKills() {
+        return userKills;
+    }
+
+    /**
+     * Sets the user's kills in the level at the end of the tick.
+     *
+     * @param userKills the user's kills
+     */
+    void setUserKills(int userKills) {
+        this.userKills = userKills;
+    }
+
+    /**
+     * Returns the score at the end of the tick.
+     *
+     * @return the score
+     */
+    int getScore() {
+        return score;
+    }
+
+    /**
+     * Sets the score at the end of the tick.
+     *
+     * @param score the score
+     */
+    void setScore(int score) {
+        this.score = score;
+    }
+
+    /**
+     * Returns the profiler summary taken at the end of the tick, if one was taken.
+     *
+     * @return the summary, or {@code null} if this tick did not take one
+     */
+    String getProfilerSummary() {
+        return profilerSummary;
+    }
+
+    /**
+     * Sets the profiler summary taken at the end of the tick.
+     *
+     * @param profilerSummary the summary
+     */
+    void setProfilerSummary(String profilerSummary) {
+        this.profilerSummary = profilerSummary;
+    }
+
+    /**
+     * Empties the frame so it can record another tick, dropping its references to actors.
+     */
+    void clear() {
+        Arrays.fill(eventActors, 0, eventCount, null);
+        Arrays.fill(actors, 0, actorCount, null);
+        eventCount = 0;
+        actorCount = 0;
+        profilerSummary = null;
+    }
+
+    /**
+     * Grows the position arrays to hold at least the given number of actors.
+     *
+     * @param capacity the required number of actors
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= actors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, actors.length * 2);
+        actors = Arrays.copyOf(actors, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+    }
+}
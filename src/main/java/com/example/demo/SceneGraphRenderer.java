@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import javafx.collections.ObservableList;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * The {@code SceneGraphRenderer} class draws each actor as its own {@link ImageView} in a layer {@link Group}.
+ * <p>
+ * Nodes of pooled actors are hidden when the actor is removed and shown again when it is reused,
+ * so recycling a projectile does not touch the scene graph. Other removals are collected and
+ * detached from the layer in a single batch per tick.
+ * </p>
+ * <p>
+ * Every node shows a viewport of the shared {@link TextureAtlas} image, so all actors are drawn
+ * from one texture.
+ * </p>
+ * <p>
+ * Each node carries its actor as user data, so a frame walks the layer's children by index and
+ * allocates nothing; the identity map is only consulted when actors are added or removed.
+ * </p>
+ */
+public class SceneGraphRenderer implements LevelRenderer {
+
+    private final Group layer;
+    private final TextureAtlas atlas;
+    private final Map<ActiveActor, ImageView> nodes;
+    private final Set<Node> nodesToDetach;
+
+    /**
+     * Constructs a {@code SceneGraphRenderer} that adds actor nodes to the given layer.
+     *
+     * @param layer the group holding the actor nodes
+     */
+    public SceneGraphRenderer(Group layer) {
+        this.layer = layer;
+        this.atlas = TextureAtlas.getDefault();
+        this.nodes = new IdentityHashMap<>();
+        this.nodesToDetach = new HashSet<>();
+    }
+
+    /**
+     * Shows the actor's node, creating it and adding it to the layer on first use.
+     *
+     * @param actor the actor to draw
+     */
+    @Override
+    public void addActor(ActiveActor actor) {
+        ImageView node = nodes.get(actor);
+        if (node == null) {
+            node = createNode(actor);
+            nodes.put(actor, node);
+            layer.getChildren().add(node);
+        } else {
+            nodesToDetach.remove(node);
+        }
+        placeNode(actor, node, 1);
+        node.setVisible(true);
+    }
+
+    /**
+     * Hides the actor's node, and queues it for detachment unless the actor will be reused.
+     *
+     * @param actor the actor to stop drawing
+     * @param keepForReuse whether the node should stay in the layer for a later {@link #addActor}
+     */
+    @Override
+    public void removeActor(ActiveActor actor, boolean keepForReuse) {
+        ImageView node = keepForReuse ? nodes.get(actor) : nodes.remove(actor);
+        if (node == null) {
+            return;
+        }
+        node.setVisible(false);
+        if (!keepForReuse) {
+            node.setUserData(null);
+            nodesToDetach.add(node);
+        }
+    }
+
+    /**
+     * Detaches every node queued since the last call with one change to the layer's children.
+     * The argument is a hash set, so the removal is linear in the number of children.
+     */
+    @Override
+    public void flushRemovals() {
+        if (!nodesToDetach.isEmpty()) {
+            layer.getChildren().removeAll(nodesToDetach);
+            nodesToDetach.clear();
+        }
+    }
+
+    /**
+     * Moves every visible node to its actor's interpolated position. Hidden nodes belong to removed
+     * actors, pooled or awaiting detachment, and are skipped.
+     *
+     * @param alpha the interpolation factor between the previous and current simulation steps
+     */
+    @Override
+    public void render(double alpha) {
+        ObservableList<Node> children = layer.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            Node node = children.get(i);
+            if (node.isVisible() && node.getUserData() instanceof ActiveActor actor) {
+                placeNode(actor, (ImageView) node, alpha);
+            }
+        }
+    }
+
+    /**
+     * Detaches every node from the layer and drops its image, and forgets every actor.
+     */
+    @Override
+    public void dispose() {
+        layer.getChildren().removeAll(nodes.values());
+        layer.getChildren().removeAll(nodesToDetach);
+        for (ImageView node : nodes.values()) {
+            node.setImage(null);
+            node.setUserData(null);
+        }
+        nodes.clear();
+        nodesToDetach.clear();
+    }
+
+    /**
+     * Creates the image node for an actor, sized to the actor's height and carrying the actor as its
+     * user data. The node shows the actor's region of the atlas, or a separately cached image if the
+     * sprite was not packed.
+     *
+     * @param actor the actor to create a node for
+     * @return the new node
+     */
+    private ImageView createNode(ActiveActor actor) {
+        ImageView node;
+        Rectangle2D region = atlas.getRegion(actor.getImagePath(), actor.getHeight());
+        if (region != null) {
+            node = new ImageView(atlas.getImage());
+            node.setViewport(region);
+        } else {
+            node = new ImageView(AssetCache.getImage(actor.getImagePath(), actor.getHeight()));
+        }
+        node.setFitHeight(actor.getHeight());
+        node.setPreserveRatio(true);
+        node.setUserData(actor);
+        return node;
+    }
+
+    /**
+     * Moves a node to its actor's interpolated position.
+     *
+     * @param actor the actor the node represents
+     * @param node the node to move
+     * @param alpha the interpolation factor between the previous and current simulation steps
+     */
+    private void placeNode(ActiveActor actor, ImageView node, double alpha) {
+        node.setTranslateX(actor.getInterpolatedX(alpha));
+        node.setTranslateY(actor.getInterpolatedY(alpha));
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,9 +10,9 @@ import javafx.scene.image.ImageView;
 public class ShieldImage extends ImageView {
 
     // The image resource path for the shield image.
-    private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
+    static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
     // The size of the shield image.
-    private static final int SHIELD_SIZE = 200;
+    static final int SHIELD_SIZE = 200;
 
     /**
      * Constructor to create a ShieldImage instance at the specified position.
@@ -27,8 +26,10 @@ public class ShieldImage extends ImageView {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
         
-        // Load the shield image.
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        // Show the shield's region of the shared texture atlas.
+        TextureAtlas atlas = TextureAtlas.getDefault();
+        this.setImage(atlas.getImage());
+        this.setViewport(atlas.getRegion(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE));
         // Initially hide the shield image.
         this.setVisible(false);
         // Set the size of the shield.
@@ -0,0 +1,43 @@
+package com.example.demo;
+
+import java.util.Locale;
+
+/**
+ * The {@code SimulationMode} enum lists the threads a displayed level can run its simulation on.
+ * <p>
+ * The mode is chosen at launch with the {@code skybattle.simulation} system property, set either
+ * directly or through the game's {@code --simulation=<name>} argument. Both modes step the
+ * simulation in the same fixed ticks, so a game plays identically in either; only when the steps
+ * run relative to rendering differs. Headless levels are stepped by their runner and ignore the mode.
+ * </p>
+ */
+public enum SimulationMode {
+
+    /** Steps the simulation on the JavaFX pulse, between frames, see {@link GameLoop}. */
+    FX_THREAD,
+
+    /**
+     * Steps the simulation on a platform thread of its own and hands each tick's result to the
+     * JavaFX Application Thread, see {@link SimulationThread}.
+     */
+    DEDICATED_THREAD;
+
+    /** The name of the system property selecting the mode. */
+    public static final String PROPERTY = "skybattle.simulation";
+
+    /**
+     * Returns the mode named by the {@code skybattle.simulation} system property, or
+     * {@link #FX_THREAD} if it is not set. Names are case-insensitive, and dashes may be used
+     * in place of underscores, as in {@code dedicated-thread}.
+     *
+     * @return the selected mode
+     * @throws IllegalArgumentException if the property names no mode
+     */
+    public static SimulationMode fromSystemProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null || name.isBlank()) {
+            return FX_THREAD;
+        }
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
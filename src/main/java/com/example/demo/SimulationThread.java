@@ -0,0 +1,330 @@
+package com.example.demo;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * The {@code SimulationThread} class drives a displayed level with a fixed simulation step on a
+ * platform thread of its own, so the cost of simulating never delays a frame and the simulation
+ * and rendering can run on separate cores.
+ * <p>
+ * The simulating thread runs a step whenever one is due and ends it by publishing a
+ * {@link RenderFrame}: the actors that entered and left play during the step, and the positions
+ * and HUD state at its end. The level hands actors to {@link #getFrameRecorder()} instead of its
+ * renderer, and the recorder writes them into the frame being built. When the simulation falls
+ * more than the catch-up limit behind, the backlog is dropped, as in {@link GameLoop}.
+ * </p>
+ * <p>
+ * On every JavaFX pulse the frames published since the last pulse are applied to the real
+ * renderer in order, so no actor is missed, but only the latest frame's positions are drawn,
+ * interpolated by the time since it was published. The renderer draws a proxy for each simulated
+ * actor, positioned from the frames, so nothing on the JavaFX Application Thread reads the
+ * simulation while it runs. Frames pass between the threads through lock-free queues and are
+ * reused once drawn, so the two threads never wait on one another and a steady game does not
+ * allocate frames.
+ * </p>
+ */
+public class SimulationThread {
+
+    private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+
+    private final long stepNanos;
+    private final long maxBacklogNanos;
+    private final Runnable simulationStep;
+    private final Consumer<RenderFrame> frameWriter;
+    private final LevelRenderer display;
+    private final Consumer<RenderFrame> frameReader;
+    private final LevelRenderer frameRecorder = new FrameRecorder();
+    private final AnimationTimer presenter = new Presenter();
+    private final Thread thread;
+
+    /** Frames published by the simulating thread and not yet applied, oldest first. */
+    private final Queue<RenderFrame> publishedFrames = new ConcurrentLinkedQueue<>();
+
+    /** Frames drawn and handed back by the JavaFX Application Thread, ready to be filled again. */
+    private final Queue<RenderFrame> freeFrames = new ConcurrentLinkedQueue<>();
+
+    // Owned by the simulating thread once started.
+    private RenderFrame building = new RenderFrame();
+
+    // Owned by the JavaFX Application Thread.
+    private final Map<ActiveActor, ActorProxy> proxies = new IdentityHashMap<>();
+    private RenderFrame shown;
+
+    private volatile boolean running;
+    private volatile long tickCount;
+
+    /**
+     * Constructs a {@code SimulationThread} with the given step length and callbacks.
+     *
+     * @param stepMillis the length of one simulation step in milliseconds
+     * @param maxStepsBehind the number of steps the simulation may fall behind before the backlog is dropped
+     * @param simulationStep advances the simulation by one step, on the simulating thread
+     * @param frameWriter adds the level's positions and HUD state to a frame at the end of a step,
+     *                    on the simulating thread
+     * @param display the renderer that draws the level
+     * @param frameReader shows the HUD state of the latest frame after every pulse is drawn, on the
+     *                    JavaFX Application Thread
+     */
+    public SimulationThread(long stepMillis, int maxStepsBehind, Runnable simulationStep,
+                            Consumer<RenderFrame> frameWriter, LevelRenderer display, Consumer<RenderFrame> frameReader) {
+        this.stepNanos = stepMillis * NANOS_PER_MILLISECOND;
+        this.maxBacklogNanos = stepNanos * maxStepsBehind;
+        this.simulationStep = simulationStep;
+        this.frameWriter = frameWriter;
+        this.display = display;
+        this.frameReader = frameReader;
+        this.thread = Thread.ofPlatform().name("simulation").daemon().unstarted(this::simulate);
+    }
+
+    /**
+     * Returns the renderer the level hands its actors to. It records every call into the frame
+     * being built, to be applied to the real renderer on the JavaFX Application Thread.
+     *
+     * @return the recording renderer
+     */
+    public LevelRenderer getFrameRecorder() {
+        return frameRecorder;
+    }
+
+    /**
+     * Starts the simulating thread and the presenter. Must be called on the JavaFX Application Thread.
+     */
+    public void start() {
+        running = true;
+        presenter.start();
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation after the step in progress, if any, which still publishes its frame.
+     * May be called from any thread; the presenter stops once the last frame has been drawn, or at
+     * once if called on the JavaFX Application Thread.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (Platform.isFxApplicationThread()) {
+            presenter.stop();
+        }
+    }
+
+    /**
+     * Stops the simulation and presenter, waits for the step in progress, if any, to finish, and
+     * releases every proxy, frame and renderer resource, so the level can then be torn down safely.
+     * Must be called on the JavaFX Application Thread once the level is disposed.
+     */
+    public void dispose() {
+        stop();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        proxies.clear();
+        publishedFrames.clear();
+        freeFrames.clear();
+        shown = null;
+        display.dispose();
+    }
+
+    /**
+     * Returns whether the simulation is running.
+     *
+     * @return {@code true} if the simulation is running; {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of simulation steps run since the thread was started.
+     *
+     * @return the simulation tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Runs the simulation steps as they fall due until stopped. Runs on the simulating thread.
+     */
+    private void simulate() {
+        long nextStepNanos = System.nanoTime() + stepNanos;
+        while (running) {
+            long waitNanos = nextStepNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            simulationStep.run();
+            tickCount++;
+            publish();
+            nextStepNanos += stepNanos;
+            long backlogNanos = System.nanoTime() - nextStepNanos;
+            if (backlogNanos > maxBacklogNanos) {
+                // Too far behind to catch up: drop the backlog rather than spiral.
+                nextStepNanos += backlogNanos - backlogNanos % stepNanos;
+            }
+        }
+    }
+
+    /**
+     * Completes the frame of the step just run, publishes it, and starts the next one.
+     */
+    private void publish() {
+        frameWriter.accept(building);
+        building.setPublishedNanos(System.nanoTime());
+        publishedFrames.add(building);
+        RenderFrame next = freeFrames.poll();
+        building = next != null ? next : new RenderFrame();
+    }
+
+    /**
+     * Hands a frame that has been applied back to the simulating thread.
+     *
+     * @param frame the frame
+     */
+    private void recycle(RenderFrame frame) {
+        frame.clear();
+        freeFrames.add(frame);
+    }
+
+    /**
+     * Shows and hides proxies for the actors that entered and left play during a frame's step.
+     *
+     * @param frame the frame
+     */
+    private void applyEvents(RenderFrame frame) {
+        for (int i = 0; i < frame.getEventCount(); i++) {
+            ActiveActor actor = frame.getEventActor(i);
+            byte kind = frame.getEventKind(i);
+            if (kind == RenderFrame.ADDED) {
+                display.addActor(proxies.computeIfAbsent(actor, ActorProxy::new));
+                continue;
+            }
+            boolean keepForReuse = kind == RenderFrame.REMOVED_FOR_REUSE;
+            ActorProxy proxy = keepForReuse ? proxies.get(actor) : proxies.remove(actor);
+            if (proxy != null) {
+                display.removeActor(proxy, keepForReuse);
+            }
+        }
+    }
+
+    /**
+     * Moves every proxy to its actor's positions in a frame.
+     *
+     * @param frame the frame
+     */
+    private void applyPositions(RenderFrame frame) {
+        for (int i = 0; i < frame.getActorCount(); i++) {
+            ActorProxy proxy = proxies.get(frame.getActor(i));
+            if (proxy != null) {
+                proxy.moveTo(frame.getPreviousX(i), frame.getPreviousY(i), frame.getX(i), frame.getY(i));
+            }
+        }
+    }
+
+    /**
+     * Applies the published frames and draws the latest one on every JavaFX pulse.
+     */
+    private final class Presenter extends AnimationTimer {
+
+        @Override
+        public void handle(long now) {
+            RenderFrame latest = null;
+            RenderFrame frame;
+            while ((frame = publishedFrames.poll()) != null) {
+                applyEvents(frame);
+                if (latest != null) {
+                    recycle(latest);
+                }
+                latest = frame;
+            }
+            if (latest != null) {
+                display.flushRemovals();
+                applyPositions(latest);
+                if (shown != null) {
+                    recycle(shown);
+                }
+                shown = latest;
+            }
+            if (shown != null) {
+                double elapsedNanos = System.nanoTime() - shown.getPublishedNanos();
+                display.render(Math.min(1.0, elapsedNanos / stepNanos));
+                frameReader.accept(shown);
+            }
+            if (!running && !thread.isAlive() && publishedFrames.isEmpty()) {
+                stop();
+            }
+        }
+    }
+
+    /**
+     * Records the level's renderer calls into the frame being built. Used on the simulating thread,
+     * and on the JavaFX Application Thread before the simulation starts.
+     */
+    private final class FrameRecorder implements LevelRenderer {
+
+        @Override
+        public void addActor(ActiveActor actor) {
+            building.recordEvent(actor, RenderFrame.ADDED);
+        }
+
+        @Override
+        public void removeActor(ActiveActor actor, boolean keepForReuse) {
+            building.recordEvent(actor, keepForReuse ? RenderFrame.REMOVED_FOR_REUSE : RenderFrame.REMOVED);
+        }
+
+        @Override
+        public void flushRemovals() {
+            // Removals are applied in one batch per pulse by the presenter.
+        }
+
+        @Override
+        public void render(double alpha) {
+            // The presenter draws the frames.
+        }
+
+        @Override
+        public void dispose() {
+            // The thread releases the real renderer, see SimulationThread#dispose().
+        }
+    }
+
+    /**
+     * Stands in for a simulated actor in the renderer. A proxy has the actor's sprite and size,
+     * and its positions are copied from the frames on the JavaFX Application Thread.
+     */
+    private static final class ActorProxy extends ActiveActor {
+
+        ActorProxy(ActiveActor actor) {
+            super(actor.getImagePath(), (int) actor.getHeight(), 0, 0);
+        }
+
+        /**
+         * Moves the proxy to the positions of its actor at the start and end of a step.
+         *
+         * @param startX the X-coordinate at the start of the step
+         * @param startY the Y-coordinate at the start of the step
+         * @param endX the X-coordinate at the end of the step
+         * @param endY the Y-coordinate at the end of the step
+         */
+        void moveTo(double startX, double startY, double endX, double endY) {
+            placeAt(startX, startY);
+            setMinX(endX);
+            setMinY(endY);
+        }
+
+        @Override
+        public void updatePosition() {
+            // Proxies are only moved by the frames.
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SpatialHashBroadphase} class is a uniform-grid broadphase sized to the playfield.
+ * <p>
+ * On every call the actors of the second store are bucketed into the grid cells their bounds
+ * overlap, and each actor of the first store is only paired with actors sharing one of its cells.
+ * Actors are placed by the box they sweep over the current step, read from the stores' position
+ * and size arrays directly, so a fast actor is paired with everything it passed; actors
+ * outside the playfield are clamped into the border cells. The grid arrays are reused
+ * between calls, so rebuilding it every tick does not allocate once it has grown to the entity count.
+ * </p>
+ */
+public class SpatialHashBroadphase implements CollisionBroadphase {
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    /** Start offset of each cell's entries in {@link #cellEntries}; the last element is the total. */
+    private final int[] cellStarts;
+    /** Write position of each cell while {@link #cellEntries} is being filled. */
+    private final int[] cellCursors;
+    /** Slots of the second store, grouped by cell. */
+    private int[] cellEntries = new int[64];
+
+    // Cell range covered by each actor of the second store.
+    private int[] firstColumns = new int[16];
+    private int[] lastColumns = new int[16];
+    private int[] firstRows = new int[16];
+    private int[] lastRows = new int[16];
+
+    /** Stamp of the last first-store actor paired with each second-store actor, used to skip duplicates. */
+    private int[] visitStamps = new int[16];
+    private int currentStamp;
+
+    /**
+     * Constructs a {@code SpatialHashBroadphase} covering a playfield of the given size.
+     *
+     * @param playfieldWidth the width of the playfield
+     * @param playfieldHeight the height of the playfield
+     * @param cellSize the width and height of one grid cell
+     */
+    public SpatialHashBroadphase(double playfieldWidth, double playfieldHeight, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(playfieldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(playfieldHeight / cellSize));
+        this.cellStarts = new int[columns * rows + 1];
+        this.cellCursors = new int[columns * rows];
+    }
+
+    /**
+     * Visits every pair of actors that share at least one grid cell.
+     *
+     * @param firstActors the first store of actors
+     * @param secondActors the second store of actors, which is bucketed into the grid
+     * @param pairHandler the handler receiving each candidate pair
+     */
+    @Override
+    public void findCandidatePairs(EntityStore firstActors, EntityStore secondActors, CollisionPairHandler pairHandler) {
+        int firstCount = firstActors.size();
+        if (firstCount == 0 || secondActors.isEmpty()) {
+            return;
+        }
+        buildGrid(secondActors);
+
+        double[] xs = firstActors.x;
+        double[] ys = firstActors.y;
+        double[] previousXs = firstActors.previousX;
+        double[] previousYs = firstActors.previousY;
+        double[] widths = firstActors.width;
+        double[] heights = firstActors.height;
+        for (int first = 0; first < firstCount; first++) {
+            int firstColumn = toColumn(Math.min(xs[first], previousXs[first]));
+            int lastColumn = toColumn(Math.max(xs[first], previousXs[first]) + widths[first]);
+            int lastRow = toRow(Math.max(ys[first], previousYs[first]) + heights[first]);
+            int stamp = nextStamp();
+            for (int row = toRow(Math.min(ys[first], previousYs[first])); row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int cell = row * columns + column;
+                    for (int entry = cellStarts[cell]; entry < cellStarts[cell + 1]; entry++) {
+                        int target = cellEntries[entry];
+                        if (visitStamps[target] != stamp) {
+                            visitStamps[target] = stamp;
+                            pairHandler.handlePair(firstActors, first, secondActors, target);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Buckets the given actors into the grid with a counting sort over their covered cells.
+     *
+     * @param actors the store of actors to insert
+     */
+    private void buildGrid(EntityStore actors) {
+        int count = actors.size();
+        double[] xs = actors.x;
+        double[] ys = actors.y;
+        double[] previousXs = actors.previousX;
+        double[] previousYs = actors.previousY;
+        double[] widths = actors.width;
+        double[] heights = actors.height;
+        ensureActorCapacity(count);
+        Arrays.fill(cellStarts, 0);
+
+        int totalEntries = 0;
+        for (int i = 0; i < count; i++) {
+            firstColumns[i] = toColumn(Math.min(xs[i], previousXs[i]));
+            lastColumns[i] = toColumn(Math.max(xs[i], previousXs[i]) + widths[i]);
+            firstRows[i] = toRow(Math.min(ys[i], previousYs[i]));
+            lastRows[i] = toRow(Math.max(ys[i], previousYs[i]) + heights[i]);
+            for (int row = firstRows[i]; row <= lastRows[i]; row++) {
+                for (int column = firstColumns[i]; column <= lastColumns[i]; column++) {
+                    cellStarts[row * columns + column + 1]++;
+                    totalEntries++;
+                }
+            }
+        }
+
+        for (int cell = 0; cell < cellCursors.length; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+            cellCursors[cell] = cellStarts[cell];
+        }
+        if (cellEntries.length < totalEntries) {
+            cellEntries = new int[Math.max(totalEntries, cellEntries.length * 2)];
+        }
+
+        for (int i = 0; i < count; i++) {
+            for (int row = firstRows[i]; row <= lastRows[i]; row++) {
+                for (int column = firstColumns[i]; column <= lastColumns[i]; column++) {
+                    cellEntries[cellCursors[row * columns + column]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Grows the per-actor arrays so they can hold at least the given number of actors.
+     *
+     * @param count the number of actors being inserted
+     */
+    private void ensureActorCapacity(int count) {
+        if (firstColumns.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, firstColumns.length * 2);
+        firstColumns = new int[capacity];
+        lastColumns = new int[capacity];
+        firstRows = new int[capacity];
+        lastRows = new int[capacity];
+        visitStamps = new int[capacity];
+        currentStamp = 0;
+    }
+
+    /**
+     * Returns a new stamp for de-duplicating pairs, resetting the stamps when the counter wraps.
+     *
+     * @return the next stamp value
+     */
+    private int nextStamp() {
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamps, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    /**
+     * Converts an X coordinate to a grid column, clamped to the grid.
+     *
+     * @param x the X coordinate
+     * @return the column containing the coordinate
+     */
+    private int toColumn(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    /**
+     * Converts a Y coordinate to a grid row, clamped to the grid.
+     *
+     * @param y the Y coordinate
+     * @return the row containing the coordinate
+     */
+    private int toRow(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+}
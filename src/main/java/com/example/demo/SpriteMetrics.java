@@ -0,0 +1,84 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * The {@code SpriteMetrics} class provides the natural dimensions of sprite images without
+ * decoding them or requiring the JavaFX toolkit.
+ * <p>
+ * Only the image header is read, through {@link ImageIO}, and the result is cached per resource.
+ * This lets actors know their size when the game runs headless, and keeps their size identical
+ * whether or not a display is present.
+ * </p>
+ */
+public final class SpriteMetrics {
+
+    /** The natural {width, height} of each sprite, keyed by resource path. */
+    private static final Map<String, double[]> DIMENSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private SpriteMetrics() {
+    }
+
+    /**
+     * Returns the width of a sprite when it is scaled to the given height with its aspect ratio preserved.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param height the height the sprite is displayed at
+     * @return the displayed width of the sprite
+     */
+    public static double getWidthAtHeight(String resourcePath, double height) {
+        double[] dimensions = getNaturalDimensions(resourcePath);
+        return dimensions[1] > 0 ? dimensions[0] * height / dimensions[1] : 0;
+    }
+
+    /**
+     * Returns the natural width and height of a sprite, reading them from the image header on first use.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @return a two-element array holding the width and height in pixels
+     */
+    public static double[] getNaturalDimensions(String resourcePath) {
+        return DIMENSIONS.computeIfAbsent(resourcePath, SpriteMetrics::readDimensions);
+    }
+
+    /**
+     * Reads the dimensions of an image from its header.
+     *
+     * @param resourcePath the classpath resource path of the image
+     * @return a two-element array holding the width and height in pixels
+     * @throws UncheckedIOException if the resource is missing or cannot be read
+     */
+    private static double[] readDimensions(String resourcePath) {
+        try (InputStream input = SpriteMetrics.class.getResourceAsStream(resourcePath)) {
+            if (input == null) {
+                throw new IOException("Missing image resource: " + resourcePath);
+            }
+            try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+                if (!readers.hasNext()) {
+                    throw new IOException("Unsupported image format: " + resourcePath);
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(imageInput, true, true);
+                    return new double[] { reader.getWidth(0), reader.getHeight(0) };
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
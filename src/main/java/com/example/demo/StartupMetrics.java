@@ -0,0 +1,94 @@
+package com.example.demo;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.lang.management.ManagementFactory;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+/**
+ * The {@code StartupMetrics} class measures how long the game takes to start and reports the
+ * class-data-sharing archive the JVM started with, so that every launch logs its
+ * time-to-first-frame alongside whether an application archive made it faster.
+ * <p>
+ * Times are measured from the start of the JVM, as reported by its runtime bean, so they include
+ * loading and linking the classes an archive saves. The game's launcher scripts start the JVM
+ * with an AppCDS archive recorded by a training run, see {@code controller.StartupTraining}.
+ * </p>
+ */
+public final class StartupMetrics {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private StartupMetrics() {
+    }
+
+    /**
+     * Returns the time since the JVM started.
+     *
+     * @return the JVM's uptime in milliseconds
+     */
+    public static long getMillisSinceJvmStart() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    /**
+     * Returns a short description of the class-data-sharing archives in use: whether sharing is
+     * on, the application archive given at startup, if any, and the archive written at exit, if any.
+     *
+     * @return the class-data-sharing status, such as {@code "CDS on, archive target/skybattle.jsa"}
+     */
+    public static String describeClassDataSharing() {
+        if (!System.getProperty("java.vm.info", "").contains("sharing")) {
+            return "CDS off";
+        }
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        String archive = hotSpot == null ? "" : getVmOption(hotSpot, "SharedArchiveFile");
+        String dump = hotSpot == null ? "" : getVmOption(hotSpot, "ArchiveClassesAtExit");
+        StringBuilder description = new StringBuilder("CDS on, ");
+        description.append(archive.isEmpty() ? "JDK archive only" : "archive " + archive);
+        if (!dump.isEmpty()) {
+            description.append(", writing ").append(dump).append(" at exit");
+        }
+        return description.toString();
+    }
+
+    /**
+     * Logs the time from the start of the JVM to the first frame the scene draws, with the
+     * class-data-sharing status. Must be called on the JavaFX Application Thread before the scene
+     * is first shown.
+     *
+     * @param scene the first scene shown
+     */
+    public static void logFirstFrame(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean logged;
+
+            @Override
+            public void run() {
+                if (logged) {
+                    return;
+                }
+                logged = true;
+                System.out.printf("Time to first frame: %d ms after JVM start (%s)%n",
+                        getMillisSinceJvmStart(), describeClassDataSharing());
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
+    }
+
+    /**
+     * Returns the value of a JVM option, or an empty string if the JVM does not have it.
+     *
+     * @param hotSpot the JVM's diagnostic bean
+     * @param name the option name
+     * @return the option's value
+     */
+    private static String getVmOption(HotSpotDiagnosticMXBean hotSpot, String name) {
+        try {
+            return hotSpot.getVMOption(name).getValue();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
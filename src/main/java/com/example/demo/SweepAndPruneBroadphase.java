@@ -0,0 +1,215 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The {@code SweepAndPruneBroadphase} class is a sort-and-sweep broadphase along the X axis.
+ * <p>
+ * Almost all movement in the game is horizontal, so actors overlapping on the X axis are the only
+ * ones worth testing. Each store's actors are kept sorted by the left edge of the interval they
+ * sweep over the current step, and the two sorted stores are swept from left to right together: an
+ * actor is paired with every actor of the other store still open when it starts, and actors drop
+ * out once the sweep passes their right edge. Only pairs whose swept X intervals overlap are
+ * reported, whatever their vertical distance.
+ * </p>
+ * <p>
+ * The sort order of every store is kept between calls and repaired with an insertion sort. Actors
+ * move only a few pixels per step and rarely pass one another, so the order barely changes and the
+ * sort runs in close to linear time; actors that entered the store since the last call are
+ * appended before sorting. The arrays are reused between calls, so a steady sweep does not allocate.
+ * </p>
+ */
+public class SweepAndPruneBroadphase implements CollisionBroadphase {
+
+    /** The sort order kept for each store this broadphase has swept. */
+    private final Map<EntityStore, SortedAxis> axes = new IdentityHashMap<>();
+
+    // Positions, in sorted order, of the actors whose X interval is still open during a sweep.
+    private int[] openFirst = new int[16];
+    private int[] openSecond = new int[16];
+
+    /**
+     * Visits every pair of actors whose swept X intervals overlap.
+     *
+     * @param firstActors the first store of actors
+     * @param secondActors the second store of actors
+     * @param pairHandler the handler receiving each candidate pair
+     */
+    @Override
+    public void findCandidatePairs(EntityStore firstActors, EntityStore secondActors, CollisionPairHandler pairHandler) {
+        if (firstActors.isEmpty() || secondActors.isEmpty()) {
+            return;
+        }
+        SortedAxis first = sort(firstActors);
+        SortedAxis second = sort(secondActors);
+        if (openFirst.length < first.count) {
+            openFirst = new int[Math.max(first.count, openFirst.length * 2)];
+        }
+        if (openSecond.length < second.count) {
+            openSecond = new int[Math.max(second.count, openSecond.length * 2)];
+        }
+
+        int openFirstCount = 0;
+        int openSecondCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.count || j < second.count) {
+            if (j == second.count || (i < first.count && first.minX[i] <= second.minX[j])) {
+                double start = first.minX[i];
+                openSecondCount = prune(openSecond, openSecondCount, second.maxX, start);
+                int slot = first.slots[i];
+                for (int k = 0; k < openSecondCount; k++) {
+                    pairHandler.handlePair(firstActors, slot, secondActors, second.slots[openSecond[k]]);
+                }
+                openFirst[openFirstCount++] = i++;
+            } else {
+                double start = second.minX[j];
+                openFirstCount = prune(openFirst, openFirstCount, first.maxX, start);
+                int slot = second.slots[j];
+                for (int k = 0; k < openFirstCount; k++) {
+                    pairHandler.handlePair(firstActors, first.slots[openFirst[k]], secondActors, slot);
+                }
+                openSecond[openSecondCount++] = j++;
+            }
+        }
+    }
+
+    /**
+     * Drops the open intervals that end before the sweep position, keeping the rest in order.
+     *
+     * @param open the sorted positions of the open intervals
+     * @param openCount the number of open intervals
+     * @param maxX the right edge of every actor, by sorted position
+     * @param sweepX the left edge of the actor being swept
+     * @return the number of intervals still open
+     */
+    private static int prune(int[] open, int openCount, double[] maxX, double sweepX) {
+        int kept = 0;
+        for (int k = 0; k < openCount; k++) {
+            if (maxX[open[k]] >= sweepX) {
+                open[kept++] = open[k];
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Brings a store's sort order up to date with the store and returns it.
+     *
+     * @param store the store
+     * @return the store's actors sorted by the left edge of their swept interval
+     */
+    private SortedAxis sort(EntityStore store) {
+        SortedAxis axis = axes.computeIfAbsent(store, key -> new SortedAxis());
+        axis.update(store);
+        return axis;
+    }
+
+    /**
+     * The actors of one store sorted by the left edge of their swept X interval, with the interval's
+     * extents in the same order.
+     */
+    private static final class SortedAxis {
+
+        /** The actors in sorted order as of the last sweep, used to carry the order over. */
+        private ActiveActorDestructible[] actors = new ActiveActorDestructible[16];
+        private int[] slots = new int[16];
+        private double[] minX = new double[16];
+        private double[] maxX = new double[16];
+        private int count;
+
+        /** Stamp of the last update that placed each slot, used to find actors new to the store. */
+        private int[] placedStamps = new int[16];
+        private int currentStamp;
+
+        /**
+         * Rebuilds the order from the previous one: actors still in the store keep their place,
+         * actors that entered it are appended, and the result is insertion-sorted by swept left edge.
+         *
+         * @param store the store
+         */
+        void update(EntityStore store) {
+            int size = store.size();
+            ensureCapacity(size);
+            int stamp = nextStamp();
+
+            int previousCount = count;
+            count = 0;
+            for (int i = 0; i < previousCount; i++) {
+                ActiveActorDestructible actor = actors[i];
+                if (actor.getStore() == store) {
+                    int slot = actor.getSlot();
+                    slots[count++] = slot;
+                    placedStamps[slot] = stamp;
+                }
+            }
+            for (int slot = 0; slot < size; slot++) {
+                if (placedStamps[slot] != stamp) {
+                    slots[count++] = slot;
+                }
+            }
+
+            double[] xs = store.x;
+            double[] previousXs = store.previousX;
+            for (int i = 0; i < count; i++) {
+                int slot = slots[i];
+                minX[i] = Math.min(xs[slot], previousXs[slot]);
+            }
+            for (int i = 1; i < count; i++) {
+                int slot = slots[i];
+                double left = minX[i];
+                int j = i - 1;
+                while (j >= 0 && minX[j] > left) {
+                    slots[j + 1] = slots[j];
+                    minX[j + 1] = minX[j];
+                    j--;
+                }
+                slots[j + 1] = slot;
+                minX[j + 1] = left;
+            }
+
+            double[] widths = store.width;
+            for (int i = 0; i < count; i++) {
+                int slot = slots[i];
+                actors[i] = store.get(slot);
+                maxX[i] = Math.max(xs[slot], previousXs[slot]) + widths[slot];
+            }
+            if (previousCount > count) {
+                Arrays.fill(actors, count, previousCount, null);
+            }
+        }
+
+        /**
+         * Grows the arrays so they can hold at least the given number of actors.
+         *
+         * @param size the number of actors in the store
+         */
+        private void ensureCapacity(int size) {
+            if (slots.length >= size) {
+                return;
+            }
+            int capacity = Math.max(size, slots.length * 2);
+            actors = Arrays.copyOf(actors, capacity);
+            slots = new int[capacity];
+            minX = new double[capacity];
+            maxX = new double[capacity];
+            placedStamps = new int[capacity];
+            currentStamp = 0;
+        }
+
+        /**
+         * Returns a new stamp for marking placed slots, resetting the stamps when the counter wraps.
+         *
+         * @return the next stamp value
+         */
+        private int nextStamp() {
+            if (++currentStamp == Integer.MAX_VALUE) {
+                Arrays.fill(placedStamps, 0);
+                currentStamp = 1;
+            }
+            return currentStamp;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The {@code TextureAtlas} class packs every sprite the game draws into a single image, each one
+ * pre-scaled to the exact size it is displayed at.
+ * <p>
+ * The atlas is built on first use, which requires the JavaFX toolkit. Each sprite is decoded
+ * directly at its display size through {@link AssetCache} and copied into the atlas, so no
+ * full-resolution image stays in memory and every sprite shares one texture. The startup
+ * {@link AssetPreloader} decodes the sprites in parallel, see {@link #addTo(AssetPreloader)}, so
+ * building the atlas itself only copies pixels. Renderers look a sprite up with
+ * {@link #getRegion(String, double)} and draw the returned viewport of {@link #getImage()}.
+ * Sprites missing from the atlas return {@code null} and can be drawn from {@link AssetCache} instead.
+ * </p>
+ * <p>
+ * Sprites are packed on shelves, tallest first, with a transparent border so that smoothing
+ * never samples a neighbouring sprite.
+ * </p>
+ */
+public final class TextureAtlas {
+
+    /** The width of the atlas image in pixels. */
+    private static final int ATLAS_WIDTH = 1024;
+
+    /** Transparent pixels kept around every sprite. */
+    private static final int PADDING = 2;
+
+    /** Bytes used per pixel of the atlas image (32-bit ARGB). */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /** Every sprite drawn by the game, at the size it is drawn at. */
+    private static final List<SpriteSize> SPRITES = List.of(
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + UserPlane.IMAGE_NAME, UserPlane.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + EnemyPlane.DEFAULT_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + LevelTwo.ENEMY_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + Boss.IMAGE_NAME, Boss.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT),
+            SpriteSize.atHeight(AssetCache.IMAGE_DIRECTORY + BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT),
+            new SpriteSize(ShieldImage.IMAGE_NAME, ShieldImage.SHIELD_SIZE, ShieldImage.SHIELD_SIZE),
+            SpriteSize.atHeight(HeartDisplay.HEART_IMAGE_NAME, HeartDisplay.HEART_HEIGHT));
+
+    private static TextureAtlas defaultAtlas;
+
+    private final WritableImage image;
+    private final Map<SpriteSize, Rectangle2D> regions;
+
+    /**
+     * A sprite at a particular display size.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param width the display width in pixels
+     * @param height the display height in pixels
+     */
+    private record SpriteSize(String resourcePath, int width, int height) {
+
+        /**
+         * Returns the size of a sprite scaled to the given height with its aspect ratio preserved.
+         *
+         * @param resourcePath the classpath resource path of the sprite
+         * @param height the display height
+         * @return the sprite size
+         */
+        static SpriteSize atHeight(String resourcePath, double height) {
+            return new SpriteSize(resourcePath,
+                    (int) Math.round(SpriteMetrics.getWidthAtHeight(resourcePath, height)), (int) Math.round(height));
+        }
+    }
+
+    /**
+     * Packs the given sprites into a new atlas.
+     *
+     * @param sprites the sprites to pack
+     */
+    private TextureAtlas(List<SpriteSize> sprites) {
+        List<SpriteSize> tallestFirst = new ArrayList<>(sprites);
+        tallestFirst.sort(Comparator.comparingInt(SpriteSize::height).reversed());
+
+        this.regions = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (SpriteSize sprite : tallestFirst) {
+            int paddedWidth = sprite.width() + 2 * PADDING;
+            if (x + paddedWidth > ATLAS_WIDTH) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            regions.put(sprite, new Rectangle2D(x + PADDING, y + PADDING, sprite.width(), sprite.height()));
+            x += paddedWidth;
+            shelfHeight = Math.max(shelfHeight, sprite.height() + 2 * PADDING);
+        }
+
+        this.image = new WritableImage(ATLAS_WIDTH, Math.max(1, y + shelfHeight));
+        PixelWriter writer = image.getPixelWriter();
+        for (Map.Entry<SpriteSize, Rectangle2D> entry : regions.entrySet()) {
+            SpriteSize sprite = entry.getKey();
+            Rectangle2D region = entry.getValue();
+            Image scaled = decode(sprite);
+            writer.setPixels((int) region.getMinX(), (int) region.getMinY(), sprite.width(), sprite.height(),
+                    scaled.getPixelReader(), 0, 0);
+        }
+    }
+
+    /**
+     * Returns the atlas holding every sprite drawn by the game, building it on first use.
+     * May be called on any thread once the JavaFX toolkit has started.
+     *
+     * @return the game's texture atlas
+     */
+    public static synchronized TextureAtlas getDefault() {
+        if (defaultAtlas == null) {
+            defaultAtlas = new TextureAtlas(SPRITES);
+        }
+        return defaultAtlas;
+    }
+
+    /**
+     * Adds every sprite of the default atlas to a preloader, each decoded at its display size,
+     * followed by building the atlas from them once they have all been decoded.
+     *
+     * @param preloader the preloader
+     */
+    public static void addTo(AssetPreloader preloader) {
+        for (SpriteSize sprite : SPRITES) {
+            preloader.addImage(sprite.resourcePath(), sprite.width(), sprite.height(), false);
+        }
+        preloader.addFinishingTask("texture atlas", TextureAtlas::getDefault);
+    }
+
+    /**
+     * Returns the atlas image holding every packed sprite.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the region of the atlas holding a sprite scaled to the given height with its
+     * aspect ratio preserved.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param height the display height of the sprite
+     * @return the sprite's region of the atlas, or {@code null} if it was not packed at that size
+     */
+    public Rectangle2D getRegion(String resourcePath, double height) {
+        return regions.get(SpriteSize.atHeight(resourcePath, height));
+    }
+
+    /**
+     * Returns the region of the atlas holding a sprite scaled to the given width and height.
+     *
+     * @param resourcePath the classpath resource path of the sprite
+     * @param width the display width of the sprite
+     * @param height the display height of the sprite
+     * @return the sprite's region of the atlas, or {@code null} if it was not packed at that size
+     */
+    public Rectangle2D getRegion(String resourcePath, double width, double height) {
+        return regions.get(new SpriteSize(resourcePath, (int) Math.round(width), (int) Math.round(height)));
+    }
+
+    /**
+     * Returns a one-line summary of the atlas, suitable for logging.
+     *
+     * @return the atlas statistics
+     */
+    public String getStatistics() {
+        long bytes = (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+        return String.format("Texture atlas: %d sprites in %dx%d (%d KB)",
+                regions.size(), (int) image.getWidth(), (int) image.getHeight(), bytes / 1024);
+    }
+
+    /**
+     * Returns a sprite decoded directly at its display size, from the {@link AssetCache}.
+     *
+     * @param sprite the sprite to decode
+     * @return the scaled image
+     * @throws IllegalStateException if the sprite cannot be decoded
+     * @throws NullPointerException if the sprite resource is missing
+     */
+    private static Image decode(SpriteSize sprite) {
+        Image scaled = AssetCache.getImage(sprite.resourcePath(), sprite.width(), sprite.height(), false);
+        if (scaled.isError()) {
+            throw new IllegalStateException("Cannot decode " + sprite.resourcePath(), scaled.getException());
+        }
+        return scaled;
+    }
+}
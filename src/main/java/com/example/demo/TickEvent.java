@@ -0,0 +1,103 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@code TickEvent} class is a Flight Recorder event covering one simulation step of a level,
+ * with the duration of each of its phases as measured by the level's {@link TickProfiler}.
+ * <p>
+ * Record a session with {@code -XX:StartFlightRecording=duration=30m,filename=skybattle.jfr} and
+ * open it in JDK Mission Control to line up slow ticks with garbage collections and other JVM events.
+ * </p>
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Simulation"})
+@Description("One fixed simulation step of a level, with the duration of each phase")
+@StackTrace(false)
+final class TickEvent extends Event {
+
+    @Label("Level")
+    String level;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Entities")
+    @Description("Live entities after the step")
+    int entities;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Spawn")
+    @Timespan
+    long spawn;
+
+    @Label("Update")
+    @Timespan
+    long update;
+
+    @Label("Fire")
+    @Timespan
+    long fire;
+
+    @Label("Penetration")
+    @Timespan
+    long penetration;
+
+    @Label("Culling")
+    @Timespan
+    long culling;
+
+    @Label("User Projectile Collisions")
+    @Timespan
+    long userProjectileCollisions;
+
+    @Label("Enemy Projectile Collisions")
+    @Timespan
+    long enemyProjectileCollisions;
+
+    @Label("Plane Collisions")
+    @Timespan
+    long planeCollisions;
+
+    @Label("Removal")
+    @Timespan
+    long removal;
+
+    @Label("Game Over Check")
+    @Timespan
+    long gameOverCheck;
+
+    /**
+     * Copies the figures of the step that has just ended from the profiler.
+     *
+     * @param levelName the class name of the level
+     * @param profiler the level's profiler, after {@link TickProfiler#endTick(int)}
+     */
+    void setFrom(String levelName, TickProfiler profiler) {
+        level = levelName;
+        tick = profiler.getTickHistogram().getTotalCount();
+        entities = profiler.getLastEntityCount();
+        allocated = profiler.getLastTickAllocatedBytes();
+        spawn = profiler.getLastPhaseNanos(TickPhase.SPAWN);
+        update = profiler.getLastPhaseNanos(TickPhase.UPDATE);
+        fire = profiler.getLastPhaseNanos(TickPhase.FIRE);
+        penetration = profiler.getLastPhaseNanos(TickPhase.PENETRATION);
+        culling = profiler.getLastPhaseNanos(TickPhase.CULLING);
+        userProjectileCollisions = profiler.getLastPhaseNanos(TickPhase.USER_PROJECTILE_COLLISIONS);
+        enemyProjectileCollisions = profiler.getLastPhaseNanos(TickPhase.ENEMY_PROJECTILE_COLLISIONS);
+        planeCollisions = profiler.getLastPhaseNanos(TickPhase.PLANE_COLLISIONS);
+        removal = profiler.getLastPhaseNanos(TickPhase.REMOVAL);
+        gameOverCheck = profiler.getLastPhaseNanos(TickPhase.GAME_OVER_CHECK);
+    }
+}
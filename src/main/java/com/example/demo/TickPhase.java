@@ -0,0 +1,58 @@
+package com.example.demo;
+
+/**
+ * The {@code TickPhase} enum names the phases of one simulation step, in the order
+ * {@link LevelParent#updateScene()} runs them.
+ */
+public enum TickPhase {
+
+    /** Raising the difficulty and spawning new enemies. */
+    SPAWN("Spawn"),
+
+    /** Moving every actor. */
+    UPDATE("Update"),
+
+    /** Auto-fire from the player and random fire from enemies. */
+    FIRE("Fire"),
+
+    /** Counting enemies and detecting those that got past the player. */
+    PENETRATION("Penetration"),
+
+    /** Destroying actors that have left the playfield. */
+    CULLING("Culling"),
+
+    /** Collisions between the player's projectiles and enemies. */
+    USER_PROJECTILE_COLLISIONS("User shots"),
+
+    /** Collisions between enemy projectiles and the player. */
+    ENEMY_PROJECTILE_COLLISIONS("Enemy shots"),
+
+    /** Collisions between the player and enemy planes. */
+    PLANE_COLLISIONS("Planes"),
+
+    /** Removing destroyed actors from play. */
+    REMOVAL("Removal"),
+
+    /** Counting kills and the score, then checking whether the level is won or lost. */
+    GAME_OVER_CHECK("Game over");
+
+    private final String label;
+
+    /**
+     * Constructs a phase with the given display label.
+     *
+     * @param label the short label shown in reports
+     */
+    TickPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the short label shown in reports.
+     *
+     * @return the phase label
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.demo;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * The {@code TickProfiler} class times every phase of a level's simulation steps.
+ * <p>
+ * A level calls {@link #beginTick()} at the start of each step, {@link #endPhase(TickPhase)} after
+ * each phase and {@link #endTick(int)} at the end. Every call reads {@link System#nanoTime()} once
+ * and records into a preallocated {@link LatencyHistogram}, so profiling is always on and costs a
+ * few hundred nanoseconds per step. The bytes allocated by the simulating thread during each step
+ * are recorded too, when the JVM supports measuring them. Garbage collections are counted from the
+ * moment the profiler is created.
+ * </p>
+ */
+public class TickProfiler {
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+    private static final List<GarbageCollectorMXBean> GARBAGE_COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final com.sun.management.ThreadMXBean THREADS = allocationTrackingThreadBean();
+
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASES.length];
+    private final long[] lastPhaseNanos = new long[PHASES.length];
+    private final LatencyHistogram tickHistogram = new LatencyHistogram();
+    private final LatencyHistogram allocationHistogram = new LatencyHistogram();
+    private final long baselineGcCount;
+    private final long baselineGcMillis;
+
+    private long tickStartNanos;
+    private long phaseStartNanos;
+    private long tickStartAllocatedBytes;
+    private long lastTickNanos;
+    private long lastTickAllocatedBytes;
+    private int lastEntityCount;
+
+    /**
+     * Constructs a {@code TickProfiler} with empty histograms.
+     */
+    public TickProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        this.baselineGcCount = totalGcCount();
+        this.baselineGcMillis = totalGcMillis();
+    }
+
+    /**
+     * Marks the start of a simulation step and of its first phase.
+     */
+    public void beginTick() {
+        tickStartAllocatedBytes = currentThreadAllocatedBytes();
+        tickStartNanos = System.nanoTime();
+        phaseStartNanos = tickStartNanos;
+    }
+
+    /**
+     * Marks the end of a phase, which is also the start of the next one.
+     *
+     * @param phase the phase that has just finished
+     */
+    public void endPhase(TickPhase phase) {
+        long now = System.nanoTime();
+        long elapsed = now - phaseStartNanos;
+        phaseHistograms[phase.ordinal()].record(elapsed);
+        lastPhaseNanos[phase.ordinal()] = elapsed;
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Marks the end of a simulation step.
+     *
+     * @param entityCount the number of live entities after the step
+     */
+    public void endTick(int entityCount) {
+        lastTickNanos = System.nanoTime() - tickStartNanos;
+        tickHistogram.record(lastTickNanos);
+        if (tickStartAllocatedBytes >= 0) {
+            lastTickAllocatedBytes = currentThreadAllocatedBytes() - tickStartAllocatedBytes;
+            allocationHistogram.record(lastTickAllocatedBytes);
+        }
+        lastEntityCount = entityCount;
+    }
+
+    /**
+     * Returns the durations of one phase across all recorded steps, in nanoseconds.
+     *
+     * @param phase the phase
+     * @return the phase's histogram
+     */
+    public LatencyHistogram getPhaseHistogram(TickPhase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the duration of one phase in the most recent step.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds
+     */
+    public long getLastPhaseNanos(TickPhase phase) {
+        return lastPhaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the durations of whole steps, in nanoseconds.
+     *
+     * @return the step histogram
+     */
+    public LatencyHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    /**
+     * Returns the duration of the most recent step.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Returns the bytes allocated by each step. The histogram stays empty if the JVM cannot
+     * measure per-thread allocation.
+     *
+     * @return the allocation histogram
+     */
+    public LatencyHistogram getAllocationHistogram() {
+        return allocationHistogram;
+    }
+
+    /**
+     * Returns the bytes allocated by the most recent step.
+     *
+     * @return the allocated bytes, or 0 if allocation cannot be measured
+     */
+    public long getLastTickAllocatedBytes() {
+        return lastTickAllocatedBytes;
+    }
+
+    /**
+     * Returns the number of live entities after the most recent step.
+     *
+     * @return the entity count
+     */
+    public int getLastEntityCount() {
+        return lastEntityCount;
+    }
+
+    /**
+     * Returns the number of garbage collections, across all collectors, since the profiler was created.
+     *
+     * @return the collection count
+     */
+    public long getGcCount() {
+        return totalGcCount() - baselineGcCount;
+    }
+
+    /**
+     * Returns the accumulated collection time, across all collectors, since the profiler was created.
+     *
+     * @return the collection time in milliseconds
+     */
+    public long getGcMillis() {
+        return totalGcMillis() - baselineGcMillis;
+    }
+
+    /**
+     * Returns a multi-line report with the p50, p99 and maximum of every phase and of whole steps,
+     * followed by the allocation and garbage collection figures.
+     *
+     * @return the profiling summary
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-12s %9s %9s %9s%n", "Phase (us)", "p50", "p99", "max"));
+        for (TickPhase phase : PHASES) {
+            appendRow(summary, phase.getLabel(), getPhaseHistogram(phase));
+        }
+        appendRow(summary, "Tick", tickHistogram);
+        summary.append(String.format("Entities %d, %d ticks%n", lastEntityCount, tickHistogram.getTotalCount()));
+        if (allocationHistogram.getTotalCount() > 0) {
+            summary.append(String.format("Alloc/tick p50 %s, p99 %s, max %s%n",
+                    formatBytes(allocationHistogram.getValueAtPercentile(50)),
+                    formatBytes(allocationHistogram.getValueAtPercentile(99)),
+                    formatBytes(allocationHistogram.getMax())));
+        }
+        summary.append(String.format("GC %d collections, %d ms", getGcCount(), getGcMillis()));
+        return summary.toString();
+    }
+
+    /**
+     * Appends one row of p50, p99 and maximum durations, in microseconds.
+     *
+     * @param summary the report being built
+     * @param label the row label
+     * @param histogram the durations in nanoseconds
+     */
+    private static void appendRow(StringBuilder summary, String label, LatencyHistogram histogram) {
+        summary.append(String.format("%-12s %9.1f %9.1f %9.1f%n", label,
+                histogram.getValueAtPercentile(50) / 1e3,
+                histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getMax() / 1e3));
+    }
+
+    /**
+     * Formats a byte count with a binary unit.
+     *
+     * @param bytes the byte count
+     * @return the formatted count
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if allocation cannot be measured
+     */
+    private static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Returns the total number of collections run by every collector.
+     *
+     * @return the collection count
+     */
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : GARBAGE_COLLECTORS) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total time spent collecting by every collector.
+     *
+     * @return the collection time in milliseconds
+     */
+    private static long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : GARBAGE_COLLECTORS) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /**
+     * Returns the thread bean used to measure per-thread allocation, enabling the measurement if needed.
+     *
+     * @return the thread bean, or {@code null} if the JVM cannot measure per-thread allocation
+     */
+    private static com.sun.management.ThreadMXBean allocationTrackingThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        return null;
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-
 /**
  * The UserPlane class represents the player's plane in the game. It extends the FighterPlane class and manages 
  * the movement, projectile firing, and tracking of kills for the player.
@@ -15,7 +13,8 @@ public class UserPlane extends FighterPlane {
     private static final double Y_LOWER_BOUND = 600.0;
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 300.0;
-    private static final int IMAGE_HEIGHT = 150;
+    static final String IMAGE_NAME = "userplane.png";
+    static final int IMAGE_HEIGHT = 150;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int PROJECTILE_X_POSITION = 110;
     private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
@@ -35,7 +34,7 @@ public class UserPlane extends FighterPlane {
      * @param initialHealth The initial health of the user plane.
      */
     public UserPlane(int initialHealth) {
-        super(new Image(UserPlane.class.getResourceAsStream("/com/example/demo/images/userplane.png")), IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+        super(AssetCache.IMAGE_DIRECTORY + IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
         velocityMultiplier = 0;
     }
 
@@ -46,20 +45,20 @@ public class UserPlane extends FighterPlane {
     @Override
     public void updatePosition() {
         if (isMoving()) {
-            double initialTranslateY = getTranslateY();
+            double initialYPosition = getMinY();
             this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
-            double newYPosition = getLayoutY() + getTranslateY();
+            double newYPosition = getMinY();
             if (newYPosition < Y_UPPER_BOUND || newYPosition > Y_LOWER_BOUND) {
-                this.setTranslateY(initialTranslateY);
+                this.setMinY(initialYPosition);
             }
         }
 
         if (isMovingHorizontally()) {
-            double initialTranslateX = getTranslateX();
+            double initialXPosition = getMinX();
             this.moveHorizontally(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
-            double newXPosition = getLayoutX() + getTranslateX();
+            double newXPosition = getMinX();
             if (newXPosition < X_LEFT_BOUND || newXPosition > X_RIGHT_BOUND) {
-                this.setTranslateX(initialTranslateX);
+                this.setMinX(initialXPosition);
             }
         }
     }
@@ -85,16 +84,16 @@ public class UserPlane extends FighterPlane {
      * Fires a projectile from the user plane.
      * The projectile is fired slightly in front of the user plane.
      * 
-     * @return a new UserProjectile instance.
+     * @return a pooled UserProjectile instance.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        double currentX = this.getLayoutX() + this.getTranslateX();
-        double currentY = this.getLayoutY() + this.getTranslateY();
+        double currentX = this.getMinX();
+        double currentY = this.getMinY();
         double projectileXPosition = currentX + PROJECTILE_X_POSITION;
         double projectileYPosition = currentY + PROJECTILE_Y_POSITION_OFFSET;
 
-        return new UserProjectile(projectileXPosition, projectileYPosition);
+        return getProjectilePools().getUserProjectilePool().acquire(projectileXPosition, projectileYPosition);
     }
 
     /**
@@ -7,8 +7,8 @@ package com.example.demo;
  */
 public class UserProjectile extends Projectile {
 
-    private static final String IMAGE_NAME = "userfire.png"; // Image for the user projectile
-    private static final int IMAGE_HEIGHT = 125; // Height of the projectile image
+    static final String IMAGE_NAME = "userfire.png"; // Image for the user projectile
+    static final int IMAGE_HEIGHT = 125; // Height of the projectile image
     private static final int HORIZONTAL_VELOCITY = 15; // Horizontal speed of the projectile
 
     /**
@@ -19,6 +19,7 @@ public class UserProjectile extends Projectile {
      */
     public UserProjectile(double initialXPos, double initialYPos) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        setVelocity(HORIZONTAL_VELOCITY, 0);
     }
 
     /**
@@ -27,7 +28,7 @@ public class UserProjectile extends Projectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(HORIZONTAL_VELOCITY);
+        moveByVelocity();
     }
 
     /**
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -9,9 +8,9 @@ import javafx.scene.image.ImageView;
  */
 public class WinImage extends ImageView {
     
-    private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png"; // Path to the win image
-    private static final int HEIGHT = 500; // Height of the win image
-    private static final int WIDTH = 600; // Width of the win image
+    static final String IMAGE_NAME = "/com/example/demo/images/youwin.png"; // Path to the win image
+    static final int HEIGHT = 500; // Height of the win image
+    static final int WIDTH = 600; // Width of the win image
     
     /**
      * Constructs a WinImage object at the specified position.
@@ -21,7 +20,7 @@ public class WinImage extends ImageView {
      * @param yPosition The Y position to place the image.
      */
     public WinImage(double xPosition, double yPosition) {
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        this.setImage(AssetCache.getImage(IMAGE_NAME, WIDTH, HEIGHT, false));
         this.setVisible(false); // Initially, the image is hidden
         this.setFitHeight(HEIGHT);
         this.setFitWidth(WIDTH);
@@ -0,0 +1,282 @@
+package com.example.demo.controller;
+
+import com.example.demo.GameRandom;
+import com.example.demo.LevelOutcome;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The BalancingRunner class plays thousands of headless games in parallel to measure how hard each
+ * level is for each {@link BotStrategy scripted player}.
+ * <p>
+ * Every game plays a single level from the start with a fresh plane, and levels share no mutable
+ * state, so games run on a fork-join pool with one worker per core and throughput scales with the
+ * number of cores. All seeds are split off the run's seed on the main thread before any game starts,
+ * and game {@code i} of a level uses the same level seed for every bot, so a report is reproducible
+ * from its seed and bots are compared on identical enemy waves.
+ * </p>
+ * <p>
+ * For every level and bot, the report gives the share of games cleared, lost and timed out, the mean
+ * game length, the game time per kill, the mean damage taken, and the simulation speed.
+ * </p>
+ * <p>
+ * Usage: {@code BalancingRunner [--levels <class names>] [--bots <strategies>] [--games <count>]
+ * [--max-ticks <count>] [--seed <seed>] [--threads <count>]}, where levels and bots are comma-separated.
+ * </p>
+ */
+public class BalancingRunner {
+
+    private static final int DEFAULT_GAMES = 200;
+    private static final double SECONDS_PER_TICK = 0.05; // 50 ms per simulation step
+
+    private final long maxTicks;
+
+    /**
+     * The result of one game of a single level.
+     *
+     * @param levelName the class name of the level
+     * @param strategy the bot that played it
+     * @param outcome how the level ended, or IN_PROGRESS if it ran out of ticks
+     * @param ticks the number of simulation steps run
+     * @param kills the number of kills made
+     * @param damageTaken the health the player lost
+     * @param nanos the wall-clock time taken to simulate the game
+     */
+    public record GameRun(String levelName, BotStrategy strategy, LevelOutcome outcome, long ticks, int kills,
+                          int damageTaken, long nanos) {
+
+        /**
+         * Returns whether the player completed the level.
+         *
+         * @return {@code true} if the level was advanced from or won
+         */
+        public boolean cleared() {
+            return outcome == LevelOutcome.ADVANCED || outcome == LevelOutcome.WON;
+        }
+    }
+
+    /**
+     * Constructs a BalancingRunner whose games run for at most the given number of steps.
+     *
+     * @param maxTicks The maximum number of simulation steps a game may run for.
+     */
+    public BalancingRunner(long maxTicks) {
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays one level to completion with a bot. Safe to call from several threads at once.
+     *
+     * @param levelName The fully qualified class name of the level.
+     * @param seed The seed of the level's random number generator.
+     * @param strategy The bot strategy.
+     * @param bot The bot created for this game.
+     * @return The result of the game.
+     * @throws IllegalArgumentException If the level is not registered.
+     */
+    public GameRun playLevel(String levelName, long seed, BotStrategy strategy, BotPlayer bot) {
+        long start = System.nanoTime();
+        LevelParent level = HeadlessRunner.createLevel(levelName, seed);
+        int initialHealth = level.getUser().getHealth();
+        while (!level.isFinished() && level.getTickCount() < maxTicks) {
+            bot.act(level);
+            level.updateScene();
+        }
+        int damageTaken = initialHealth - Math.max(0, level.getUser().getHealth());
+        return new GameRun(levelName, strategy, level.getOutcome(), level.getTickCount(),
+                level.getUser().getTotalKills(), damageTaken, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays every combination of level, bot and game on the given pool and returns the results in a
+     * fixed order, independent of how the games were scheduled.
+     *
+     * @param pool The pool to run games on.
+     * @param levels The fully qualified class names of the levels.
+     * @param strategies The bots.
+     * @param games The number of games per level and bot.
+     * @param seed The seed every game's seeds are split from.
+     * @return The results, by level, then game, then bot.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     * @throws ExecutionException If a game fails.
+     */
+    public List<GameRun> run(ForkJoinPool pool, List<String> levels, List<BotStrategy> strategies, int games, long seed)
+            throws InterruptedException, ExecutionException {
+        SplittableGenerator seeds = GameRandom.create(seed);
+        List<Callable<GameRun>> tasks = new ArrayList<>(levels.size() * strategies.size() * games);
+        for (String levelName : levels) {
+            for (int game = 0; game < games; game++) {
+                SplittableGenerator gameRandom = seeds.split();
+                long levelSeed = gameRandom.nextLong();
+                for (BotStrategy strategy : strategies) {
+                    BotPlayer bot = strategy.create(gameRandom.split());
+                    tasks.add(() -> playLevel(levelName, levelSeed, strategy, bot));
+                }
+            }
+        }
+        List<GameRun> runs = new ArrayList<>(tasks.size());
+        for (Future<GameRun> result : pool.invokeAll(tasks)) {
+            runs.add(result.get());
+        }
+        return runs;
+    }
+
+    /**
+     * Runs the balancing games and prints the report.
+     *
+     * @param args Command line options: {@code --levels}, {@code --bots}, {@code --games}, {@code --max-ticks},
+     *             {@code --seed} and {@code --threads}.
+     * @throws InterruptedException If interrupted while waiting for the games.
+     * @throws ExecutionException If a game fails.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        List<String> levels = LevelRegistry.getLevelNames();
+        List<BotStrategy> strategies = List.of(BotStrategy.values());
+        int games = DEFAULT_GAMES;
+        long maxTicks = HeadlessRunner.DEFAULT_MAX_TICKS;
+        long seed = GameRandom.defaultSeed();
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + option);
+            }
+            String value = args[i + 1];
+            switch (option) {
+                case "--levels" -> levels = parseLevels(value);
+                case "--bots" -> strategies = parseStrategies(value);
+                case "--games" -> games = Integer.parseInt(value);
+                case "--max-ticks" -> maxTicks = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        System.out.printf("Seed %d, %d games per level and bot on %d threads%n", seed, games, threads);
+        BalancingRunner runner = new BalancingRunner(maxTicks);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        List<GameRun> runs;
+        try {
+            runs = runner.run(pool, levels, strategies, games, seed);
+        } finally {
+            pool.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+        System.out.print(report(runs, wallNanos, threads));
+    }
+
+    /**
+     * Formats the results as one row per level and bot, followed by the simulation speed.
+     *
+     * @param runs The game results.
+     * @param wallNanos The wall-clock time taken to play them all.
+     * @param threads The number of threads they were played on.
+     * @return The report.
+     */
+    static String report(List<GameRun> runs, long wallNanos, int threads) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        long totalTicks = 0;
+        long serialNanos = 0;
+        for (GameRun run : runs) {
+            summaries.computeIfAbsent(shortName(run.levelName()) + " " + run.strategy(), key -> new Summary()).add(run);
+            totalTicks += run.ticks();
+            serialNanos += run.nanos();
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-20s %6s %8s %6s %8s %9s %8s %8s %10s%n", "Level / bot", "Games",
+                "Cleared", "Lost", "Timeout", "Length s", "TTK s", "Damage", "Ticks/s"));
+        summaries.forEach((name, summary) -> report.append(summary.format(name)));
+        double wallSeconds = wallNanos / 1e9;
+        report.append(String.format("Simulated %d ticks in %.2f s on %d threads (%.0f ticks/s, %.1fx parallel speedup)%n",
+                totalTicks, wallSeconds, threads, totalTicks / wallSeconds, (double) serialNanos / wallNanos));
+        return report.toString();
+    }
+
+    /**
+     * Returns a level class name without its package.
+     *
+     * @param levelName The fully qualified class name.
+     * @return The simple class name.
+     */
+    private static String shortName(String levelName) {
+        return levelName.substring(levelName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Parses a comma-separated list of level class names, qualifying simple names with the game's package.
+     *
+     * @param value The list.
+     * @return The fully qualified class names.
+     */
+    private static List<String> parseLevels(String value) {
+        List<String> levels = new ArrayList<>();
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            levels.add(trimmed.contains(".") ? trimmed : "com.example.demo." + trimmed);
+        }
+        return levels;
+    }
+
+    /**
+     * Parses a comma-separated list of bot strategy names.
+     *
+     * @param value The list.
+     * @return The strategies.
+     */
+    private static List<BotStrategy> parseStrategies(String value) {
+        List<BotStrategy> strategies = new ArrayList<>();
+        for (String name : value.split(",")) {
+            strategies.add(BotStrategy.fromName(name));
+        }
+        return strategies;
+    }
+
+    /**
+     * Accumulates the results of the games of one level and bot.
+     */
+    private static final class Summary {
+
+        private int games;
+        private int cleared;
+        private int lost;
+        private int timedOut;
+        private long ticks;
+        private long kills;
+        private long damageTaken;
+        private long nanos;
+
+        void add(GameRun run) {
+            games++;
+            if (run.cleared()) {
+                cleared++;
+            } else if (run.outcome() == LevelOutcome.LOST) {
+                lost++;
+            } else {
+                timedOut++;
+            }
+            ticks += run.ticks();
+            kills += run.kills();
+            damageTaken += run.damageTaken();
+            nanos += run.nanos();
+        }
+
+        String format(String name) {
+            double timeToKill = kills == 0 ? Double.NaN : ticks * SECONDS_PER_TICK / kills;
+            return String.format("%-20s %6d %7.1f%% %5.1f%% %7.1f%% %9.1f %8.2f %8.2f %10.0f%n", name, games,
+                    100.0 * cleared / games, 100.0 * lost / games, 100.0 * timedOut / games,
+                    ticks * SECONDS_PER_TICK / games, timeToKill, (double) damageTaken / games, ticks / (nanos / 1e9));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.controller;
+
+import com.example.demo.LevelParent;
+
+/**
+ * The BotPlayer interface is implemented by scripted players that steer the user plane in headless games.
+ * <p>
+ * A bot is asked to act before every simulation step and gives its orders through
+ * {@link LevelParent#submitCommand(com.example.demo.PlayerCommand)}, exactly as the keyboard does,
+ * so its games can be recorded and replayed. Bots keep per-game state and must draw any randomness
+ * from the generator they were created with, so that a game is reproducible from its seeds.
+ * </p>
+ */
+@FunctionalInterface
+public interface BotPlayer {
+
+    /**
+     * Decides the commands for the next simulation step.
+     *
+     * @param level The level being played.
+     */
+    void act(LevelParent level);
+}
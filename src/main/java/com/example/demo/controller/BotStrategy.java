@@ -0,0 +1,201 @@
+package com.example.demo.controller;
+
+import com.example.demo.ActiveActorDestructible;
+import com.example.demo.LevelParent;
+import com.example.demo.PlayerCommand;
+import com.example.demo.UserPlane;
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * The BotStrategy enum lists the scripted players available to headless runners.
+ * Each strategy creates a fresh {@link BotPlayer} per game.
+ */
+public enum BotStrategy {
+
+    /** Never moves; the plane only auto-fires from its starting position. */
+    IDLE {
+        @Override
+        public BotPlayer create(RandomGenerator random) {
+            return level -> { };
+        }
+    },
+
+    /** Changes vertical direction at random, about twice a second. */
+    WANDER {
+        @Override
+        public BotPlayer create(RandomGenerator random) {
+            return new WanderingBot(random);
+        }
+    },
+
+    /** Lines its shots up with the nearest enemy plane. */
+    TRACKER {
+        @Override
+        public BotPlayer create(RandomGenerator random) {
+            return new TrackingBot(false);
+        }
+    },
+
+    /** Lines its shots up with the nearest enemy plane, but first moves out of the way of incoming fire. */
+    DODGER {
+        @Override
+        public BotPlayer create(RandomGenerator random) {
+            return new TrackingBot(true);
+        }
+    };
+
+    /**
+     * Creates a bot for one game.
+     *
+     * @param random The generator the bot draws its random decisions from.
+     * @return The new bot.
+     */
+    public abstract BotPlayer create(RandomGenerator random);
+
+    /**
+     * Returns the strategy with the given name, ignoring case.
+     *
+     * @param name The strategy name.
+     * @return The strategy.
+     * @throws IllegalArgumentException If no strategy has that name.
+     */
+    public static BotStrategy fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * A bot that only submits a vertical command when it differs from the previous one,
+     * keeping recorded journals small.
+     */
+    private abstract static class VerticalBot implements BotPlayer {
+
+        private PlayerCommand lastCommand = PlayerCommand.STOP_VERTICAL;
+
+        /**
+         * Submits a vertical movement command unless it is already in effect.
+         *
+         * @param level The level being played.
+         * @param command The command.
+         */
+        void steer(LevelParent level, PlayerCommand command) {
+            if (command != lastCommand) {
+                level.submitCommand(command);
+                lastCommand = command;
+            }
+        }
+    }
+
+    /**
+     * Picks a new vertical direction at random every few steps.
+     */
+    private static final class WanderingBot extends VerticalBot {
+
+        private static final double CHANGE_PROBABILITY = 0.1;
+        private static final PlayerCommand[] DIRECTIONS = {
+                PlayerCommand.MOVE_UP, PlayerCommand.MOVE_DOWN, PlayerCommand.STOP_VERTICAL};
+
+        private final RandomGenerator random;
+
+        WanderingBot(RandomGenerator random) {
+            this.random = random;
+        }
+
+        @Override
+        public void act(LevelParent level) {
+            if (random.nextDouble() < CHANGE_PROBABILITY) {
+                steer(level, DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+            }
+        }
+    }
+
+    /**
+     * Moves towards the height of the nearest enemy ahead of the plane and, when dodging,
+     * away from enemy projectiles about to hit it.
+     */
+    private static final class TrackingBot extends VerticalBot {
+
+        /** Vertical offset of the user plane's projectiles from the top of the plane. */
+        private static final double SHOT_Y_OFFSET = 20;
+        /** How close, in pixels, the shot line must be to the target before the bot stops. */
+        private static final double AIM_TOLERANCE = 12;
+        /** How far ahead of the plane, in pixels, incoming projectiles are considered a threat. */
+        private static final double THREAT_DISTANCE = 250;
+
+        private final boolean dodge;
+
+        TrackingBot(boolean dodge) {
+            this.dodge = dodge;
+        }
+
+        @Override
+        public void act(LevelParent level) {
+            UserPlane user = level.getUser();
+            if (dodge) {
+                ActiveActorDestructible threat = findThreat(user, level.getEnemyProjectiles());
+                if (threat != null) {
+                    double threatCenter = threat.getMinY() + threat.getHeight() / 2;
+                    double userCenter = user.getMinY() + user.getHeight() / 2;
+                    steer(level, threatCenter > userCenter ? PlayerCommand.MOVE_UP : PlayerCommand.MOVE_DOWN);
+                    return;
+                }
+            }
+            ActiveActorDestructible target = findTarget(user, level.getEnemyUnits());
+            if (target == null) {
+                steer(level, PlayerCommand.STOP_VERTICAL);
+                return;
+            }
+            double offset = target.getMinY() + target.getHeight() / 2 - (user.getMinY() + SHOT_Y_OFFSET);
+            if (offset < -AIM_TOLERANCE) {
+                steer(level, PlayerCommand.MOVE_UP);
+            } else if (offset > AIM_TOLERANCE) {
+                steer(level, PlayerCommand.MOVE_DOWN);
+            } else {
+                steer(level, PlayerCommand.STOP_VERTICAL);
+            }
+        }
+
+        /**
+         * Returns the enemy closest to the plane horizontally among those still ahead of it.
+         *
+         * @param user The player's plane.
+         * @param enemies The enemy planes in play.
+         * @return The target, or {@code null} if no enemy is ahead.
+         */
+        private static ActiveActorDestructible findTarget(UserPlane user, List<ActiveActorDestructible> enemies) {
+            ActiveActorDestructible target = null;
+            for (int i = 0; i < enemies.size(); i++) {
+                ActiveActorDestructible enemy = enemies.get(i);
+                if (enemy.getMinX() > user.getMinX() && (target == null || enemy.getMinX() < target.getMinX())) {
+                    target = enemy;
+                }
+            }
+            return target;
+        }
+
+        /**
+         * Returns the nearest enemy projectile that is ahead of the plane, within
+         * {@code THREAT_DISTANCE} and level with it.
+         *
+         * @param user The player's plane.
+         * @param projectiles The enemy projectiles in flight.
+         * @return The threat, or {@code null} if nothing is about to hit the plane.
+         */
+        private static ActiveActorDestructible findThreat(UserPlane user, List<ActiveActorDestructible> projectiles) {
+            double front = user.getMinX() + user.getWidth();
+            ActiveActorDestructible threat = null;
+            for (int i = 0; i < projectiles.size(); i++) {
+                ActiveActorDestructible projectile = projectiles.get(i);
+                double distance = projectile.getMinX() - front;
+                boolean inLine = projectile.getMinY() < user.getMinY() + user.getHeight()
+                        && user.getMinY() < projectile.getMinY() + projectile.getHeight();
+                if (inLine && distance > -user.getWidth() && distance < THREAT_DISTANCE
+                        && (threat == null || projectile.getMinX() < threat.getMinX())) {
+                    threat = projectile;
+                }
+            }
+            return threat;
+        }
+    }
+}
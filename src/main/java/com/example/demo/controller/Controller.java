@@ -1,20 +1,27 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import com.example.demo.GameRandom;
+import com.example.demo.InputRecorder;
+import com.example.demo.InputReplay;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import com.example.demo.LevelTransitionEvent;
 
 /**
  * The Controller class is responsible for managing the flow of the game, including 
- * transitioning between levels and launching the game. It handles the dynamic 
- * creation of game level instances and setting up the game scene.
+ * transitioning between levels and launching the game. It creates game level instances
+ * through the {@link LevelRegistry} and sets up the game scene.
+ * <p>
+ * When the {@value InputRecorder#PROPERTY} system property names a file, every game started is
+ * recorded to it. When {@value InputReplay#PROPERTY} names a journal, starting a game replays the
+ * recorded session instead, from its first level and seed.
+ * </p>
  */
 public class Controller {
 
-    private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne"; // Default starting level
+    private static InputRecorder activeRecorder; // The journal of the game being recorded, if any
     private final Stage stage; // The primary stage of the application
 
     /**
@@ -28,39 +35,65 @@ public class Controller {
 
     /**
      * Launches the game by initializing the first level and displaying it.
-     * 
-     * @throws ClassNotFoundException If the class for the level is not found.
-     * @throws NoSuchMethodException If the constructor of the level class is not found.
-     * @throws SecurityException If access to the constructor is denied.
-     * @throws InstantiationException If the level class cannot be instantiated.
-     * @throws IllegalAccessException If the constructor is not accessible.
-     * @throws IllegalArgumentException If an invalid argument is passed to the constructor.
-     * @throws InvocationTargetException If an exception is thrown by the invoked constructor.
      */
-    public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-        goToLevel(LEVEL_ONE_CLASS_NAME); // Starts the game at the first level
+    public void launchGame() {
+        goToLevel(LevelRegistry.LEVEL_ONE); // Starts the game at the first level
     }
 
     /**
      * Transitions to the specified game level.
-     * Dynamically loads the class for the level, creates an instance, and sets up the scene.
+     * Creates the level through the {@link LevelRegistry} and sets up the scene.
+     * In replay mode the journal's first level is played instead. The time taken is recorded as a
+     * {@link LevelTransitionEvent} and printed.
      * 
      * @param className The fully qualified name of the class for the level to transition to.
      */
     public void goToLevel(String className) {
+        LevelTransitionEvent transition = new LevelTransitionEvent(); // Timed in Flight Recorder
+        transition.beginTransition(null, className);
         try {
-            Class<?> levelClass = Class.forName(className); // Load the class for the level
-            Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, Stage.class); // Get the constructor
-            LevelParent level = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage); // Instantiate the level
+            InputReplay replay = InputReplay.fromSystemProperty();
+            long seed = GameRandom.defaultSeed();
+            if (replay != null) {
+                className = replay.getFirstLevelName();
+                seed = replay.getFirstSeed();
+            }
+            LevelParent level = LevelRegistry.create(className, stage.getHeight(), stage.getWidth(), stage, seed);
+            transition.endConstruction();
+            if (replay != null) {
+                level.setInputReplay(replay);
+            } else {
+                startRecording(level);
+            }
 
             // Create a new scene with the level's root and set it on the stage
             Scene scene = level.initializeScene();
+            transition.endSceneInitialization();
             stage.setScene(scene);
+            transition.endRootSwap();
             level.startGame(); // Start the game for the new level
+            transition.endGameStart();
+            transition.commit();
+            System.out.println(transition.getSummary());
         } catch (Exception e) {
             System.err.println("Failed to transition to level: " + className);
             e.printStackTrace();
         }
     }
+
+    /**
+     * Starts recording a new game to the journal named by the {@value InputRecorder#PROPERTY} system
+     * property, closing the journal of the previous game first. Does nothing if the property is not set.
+     *
+     * @param level The first level of the game.
+     */
+    private static void startRecording(LevelParent level) {
+        if (activeRecorder != null) {
+            activeRecorder.close();
+        }
+        activeRecorder = InputRecorder.fromSystemProperty();
+        if (activeRecorder != null) {
+            level.setInputRecorder(activeRecorder);
+        }
+    }
 }
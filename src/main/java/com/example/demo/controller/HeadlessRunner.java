@@ -0,0 +1,249 @@
+package com.example.demo.controller;
+
+import com.example.demo.GameRandom;
+import com.example.demo.InputRecorder;
+import com.example.demo.InputReplay;
+import com.example.demo.LevelOutcome;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The HeadlessRunner class plays games without a display or the JavaFX toolkit.
+ * It steps levels as fast as possible using the same rules as the windowed game,
+ * advancing from level to level until the game is won, lost or runs out of ticks.
+ * <p>
+ * Each game's seed is drawn from a generator created with the run's seed, so rerunning with
+ * the same {@code --seed} replays exactly the same games.
+ * </p>
+ * <p>
+ * Usage: {@code HeadlessRunner [--level <class name>] [--games <count>] [--max-ticks <count>] [--seed <seed>]
+ * [--bot <strategy>] [--record <file>] [--replay <file>] [--profile]}.
+ * {@code --bot} steers the player with one of the {@link BotStrategy scripted bots} instead of leaving it idle.
+ * With {@code --profile}, the phase timings of every level played are printed when it ends.
+ * {@code --record} writes the games' state hashes to an input journal, and {@code --replay} plays
+ * back a journal recorded by the windowed or headless game, reporting the first step that diverges.
+ * A journal holding several games replays the first.
+ * </p>
+ */
+public class HeadlessRunner {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final String DEFAULT_LEVEL = LevelRegistry.LEVEL_ONE;
+    static final long DEFAULT_MAX_TICKS = 72_000; // One hour of game time at 50 ms per tick
+
+    private final String firstLevelName;
+    private final long maxTicks;
+    private boolean printProfiles;
+    private InputRecorder recorder;
+    private InputReplay replay;
+    private BotStrategy botStrategy = BotStrategy.IDLE;
+
+    /**
+     * The result of one headless game.
+     *
+     * @param seed the seed of the game's first level
+     * @param outcome how the last level played ended, or IN_PROGRESS if the tick limit was reached
+     * @param lastLevelName the class name of the last level played
+     * @param ticks the number of simulation steps run across all levels
+     * @param totalKills the number of kills made across all levels
+     * @param remainingHealth the player's health at the end of the last level
+     */
+    public record GameResult(long seed, LevelOutcome outcome, String lastLevelName, long ticks, int totalKills, int remainingHealth) {
+    }
+
+    /**
+     * Constructs a HeadlessRunner starting at the given level.
+     *
+     * @param firstLevelName The fully qualified class name of the first level to play.
+     * @param maxTicks The maximum number of simulation steps a game may run for.
+     */
+    public HeadlessRunner(String firstLevelName, long maxTicks) {
+        this.firstLevelName = firstLevelName;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays one game to completion, moving on to the next level whenever a level is completed.
+     * Each following level is seeded by the level before it, as in the windowed game.
+     * The bot, if any, draws its random decisions from a generator split off the game's seed.
+     *
+     * @param seed The seed of the first level.
+     * @return The result of the game.
+     * @throws IllegalArgumentException If a level is not registered.
+     */
+    public GameResult playGame(long seed) {
+        String levelName = firstLevelName;
+        long levelSeed = seed;
+        long ticks = 0;
+        int kills = 0;
+        BotPlayer bot = botStrategy.create(GameRandom.create(seed).split());
+        while (true) {
+            LevelParent level = createLevel(levelName, levelSeed);
+            if (recorder != null) {
+                level.setInputRecorder(recorder);
+            }
+            if (replay != null) {
+                level.setInputReplay(replay);
+            }
+            while (!level.isFinished() && ticks < maxTicks
+                    && (replay == null || replay.hasRemainingInput(level.getTickCount()))) {
+                if (replay == null) {
+                    bot.act(level);
+                }
+                level.updateScene();
+                ticks++;
+            }
+            kills += level.getUser().getTotalKills();
+            if (printProfiles) {
+                System.out.printf("%s, seed %d:%n%s%n", levelName, levelSeed, level.getProfiler().getSummary());
+            }
+            if (level.getOutcome() != LevelOutcome.ADVANCED || level.getNextLevelName() == null) {
+                return new GameResult(seed, level.getOutcome(), levelName, ticks, kills, level.getUser().getHealth());
+            }
+            levelName = level.getNextLevelName();
+            levelSeed = level.getNextLevelSeed();
+        }
+    }
+
+    /**
+     * Sets whether the phase timings of every level are printed when it ends.
+     *
+     * @param printProfiles {@code true} to print each level's profiler summary
+     */
+    public void setPrintProfiles(boolean printProfiles) {
+        this.printProfiles = printProfiles;
+    }
+
+    /**
+     * Sets the scripted player that steers the user plane in the following games.
+     *
+     * @param botStrategy the bot strategy
+     */
+    public void setBotStrategy(BotStrategy botStrategy) {
+        this.botStrategy = botStrategy;
+    }
+
+    /**
+     * Sets the journal every level played is recorded to.
+     *
+     * @param recorder the journal to record to, or {@code null} to stop recording
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sets the journal the next game replays. The game should be started from the journal's
+     * first level and seed, and stops when the recording ends.
+     *
+     * @param replay the journal to replay, or {@code null} to play without input
+     */
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Creates a level through the {@link LevelRegistry} without a stage, so it never builds a scene.
+     *
+     * @param className The fully qualified class name of the level.
+     * @param seed The seed of the level's random number generator.
+     * @return The new level.
+     * @throws IllegalArgumentException If the level is not registered.
+     */
+    static LevelParent createLevel(String className, long seed) {
+        return LevelRegistry.create(className, SCREEN_HEIGHT, SCREEN_WIDTH, null, seed);
+    }
+
+    /**
+     * Runs the requested number of headless games and prints each result and the simulation speed.
+     *
+     * @param args Command line options: {@code --level}, {@code --games}, {@code --max-ticks}, {@code --seed},
+     *             {@code --bot}, {@code --record}, {@code --replay} and {@code --profile}.
+     * @throws IOException If a journal cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String levelName = DEFAULT_LEVEL;
+        int games = 1;
+        long maxTicks = DEFAULT_MAX_TICKS;
+        long seed = GameRandom.defaultSeed();
+        boolean profile = false;
+        BotStrategy bot = BotStrategy.IDLE;
+        Path recordPath = null;
+        Path replayPath = null;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--profile")) {
+                profile = true;
+                continue;
+            }
+            if (++i >= args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + option);
+            }
+            String value = args[i];
+            switch (option) {
+                case "--level" -> levelName = value.contains(".") ? value : "com.example.demo." + value;
+                case "--games" -> games = Integer.parseInt(value);
+                case "--max-ticks" -> maxTicks = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--bot" -> bot = BotStrategy.fromName(value);
+                case "--record" -> recordPath = Path.of(value);
+                case "--replay" -> replayPath = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        if (replayPath != null) {
+            replay(replayPath, maxTicks, profile);
+            return;
+        }
+
+        HeadlessRunner runner = new HeadlessRunner(levelName, maxTicks);
+        runner.setPrintProfiles(profile);
+        runner.setBotStrategy(bot);
+        if (recordPath != null) {
+            runner.setRecorder(InputRecorder.open(recordPath));
+        }
+        SplittableGenerator seeds = GameRandom.create(seed);
+        System.out.printf("Seed %d%n", seed);
+        long totalTicks = 0;
+        long start = System.nanoTime();
+        for (int game = 1; game <= games; game++) {
+            GameResult result = runner.playGame(seeds.nextLong());
+            totalTicks += result.ticks();
+            System.out.printf("Game %d (seed %d): %s in %s after %d ticks, %d kills, %d health left%n", game,
+                    result.seed(), result.outcome(), result.lastLevelName(), result.ticks(), result.totalKills(), result.remainingHealth());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Simulated %d ticks in %.2f s (%.0f ticks/s)%n", totalTicks, seconds, totalTicks / seconds);
+        if (runner.recorder != null) {
+            runner.recorder.close();
+        }
+    }
+
+    /**
+     * Replays a recorded journal and prints whether it reproduced the recorded session.
+     *
+     * @param journal The journal file.
+     * @param maxTicks The maximum number of simulation steps to replay.
+     * @param profile Whether to print each level's phase timings.
+     * @throws IOException If the journal cannot be read.
+     */
+    private static void replay(Path journal, long maxTicks, boolean profile) throws IOException {
+        InputReplay replay = InputReplay.load(journal);
+        HeadlessRunner runner = new HeadlessRunner(replay.getFirstLevelName(), maxTicks);
+        runner.setPrintProfiles(profile);
+        runner.setReplay(replay);
+        GameResult result = runner.playGame(replay.getFirstSeed());
+        System.out.printf("Replay (seed %d): %s in %s after %d ticks, %d kills, %d health left%n", result.seed(),
+                result.outcome(), result.lastLevelName(), result.ticks(), result.totalKills(), result.remainingHealth());
+        if (replay.getDivergence() != null) {
+            System.out.println("Diverged: " + replay.getDivergence());
+        } else {
+            System.out.printf("Reproduced %d of %d recorded levels%n", replay.getReplayedLevelCount(), replay.getLevelCount());
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.demo.controller;
 
+import com.example.demo.AssetCache;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -38,7 +38,7 @@ public class KeyBindingPage {
      */
     public void show() { 
         // Create and set up the background image
-        ImageView background = new ImageView(new Image(getClass().getResource(BACKGROUND_IMAGE).toExternalForm()));
+        ImageView background = new ImageView(AssetCache.getImage(BACKGROUND_IMAGE, SCREEN_WIDTH, SCREEN_HEIGHT, false));
         background.setFitWidth(SCREEN_WIDTH);
         background.setFitHeight(SCREEN_HEIGHT);
 
@@ -1,8 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.AssetCache;
+import com.example.demo.LevelRegistry;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -39,7 +40,7 @@ public class LevelSelectionPage {
      */
     public void show() { 
         // Background setup 
-        ImageView background = new ImageView(new Image(getClass().getResource(BACKGROUND_IMAGE).toExternalForm())); 
+        ImageView background = new ImageView(AssetCache.getImage(BACKGROUND_IMAGE, SCREEN_WIDTH, SCREEN_HEIGHT, false)); 
         background.setFitWidth(SCREEN_WIDTH); 
         background.setFitHeight(SCREEN_HEIGHT); 
 
@@ -49,9 +50,9 @@ public class LevelSelectionPage {
         Button level3Button = createLevelButton("Level 3");
 
         // Button actions 
-        level1Button.setOnAction(e -> startLevel("com.example.demo.LevelOne")); 
-        level2Button.setOnAction(e -> startLevel("com.example.demo.LevelTwo")); 
-        level3Button.setOnAction(e -> startLevel("com.example.demo.LevelThree")); 
+        level1Button.setOnAction(e -> startLevel(LevelRegistry.LEVEL_ONE)); 
+        level2Button.setOnAction(e -> startLevel(LevelRegistry.LEVEL_TWO)); 
+        level3Button.setOnAction(e -> startLevel(LevelRegistry.LEVEL_THREE)); 
 
         // Back to Main Menu Button
         Button backToMenuButton = new Button("Back to Main Menu");
@@ -1,5 +1,11 @@
 package com.example.demo.controller;
 
+import com.example.demo.BroadphaseType;
+import com.example.demo.InputRecorder;
+import com.example.demo.InputReplay;
+import com.example.demo.LeakDetector;
+import com.example.demo.RenderBackend;
+import com.example.demo.SimulationMode;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -7,7 +13,18 @@ import javafx.stage.Stage;
  * The Main class is the entry point of the Sky Battle game.
  * It extends the Application class from JavaFX and sets up the initial game window,
  * including its size, title, and other configurations. It also starts the game by 
- * displaying the main menu.
+ * decoding every image behind a splash page, then displaying the main menu.
+ * <p>
+ * The optional {@code --renderer=canvas} argument draws levels onto a single canvas instead of
+ * one scene-graph node per actor; see {@link RenderBackend}. {@code --broadphase=sweep-and-prune}
+ * selects another collision broadphase; see {@link BroadphaseType}. {@code --simulation=dedicated-thread}
+ * steps levels on a thread of their own instead of the JavaFX pulse; see {@link SimulationMode}.
+ * {@code --record=<file>} records every game played to an input journal, and {@code --replay=<file>}
+ * replays a recorded journal instead of reading the keyboard; see {@link InputRecorder} and {@link InputReplay}.
+ * {@code --training} runs the class-data-sharing training session and exits once the menu is shown;
+ * see {@link StartupTraining}. {@code --leak-check} warns when a level is still reachable after it
+ * has been disposed; see {@link LeakDetector}.
+ * </p>
  */
 public class Main extends Application {
 
@@ -19,7 +36,8 @@ public class Main extends Application {
     /**
      * The start method is called by the JavaFX runtime when the application is launched.
      * It sets up the game window (Stage) with the specified title and dimensions.
-     * Then, it initializes and shows the MenuPage where the player can start the game.
+     * Then, it shows the SplashPage, which decodes the game's images and opens the MenuPage
+     * where the player can start the game.
      * 
      * @param stage The primary stage for the game window.
      */
@@ -34,9 +52,45 @@ public class Main extends Application {
         // Configure memory settings (optional)
         System.setProperty("javafx.animation.fullspeed", "false"); // Reduce animation load
 
-        // Display the menu page
-        MenuPage menuPage = new MenuPage(stage);
-        menuPage.show();
+        // Select the render backend, if one was given on the command line
+        String renderer = getParameters().getNamed().get("renderer");
+        if (renderer != null) {
+            System.setProperty(RenderBackend.PROPERTY, renderer);
+        }
+
+        // Select the collision broadphase, if one was given on the command line
+        String broadphase = getParameters().getNamed().get("broadphase");
+        if (broadphase != null) {
+            System.setProperty(BroadphaseType.PROPERTY, broadphase);
+        }
+
+        // Select the simulation thread, if one was given on the command line
+        String simulation = getParameters().getNamed().get("simulation");
+        if (simulation != null) {
+            System.setProperty(SimulationMode.PROPERTY, simulation);
+        }
+
+        // Record or replay input journals, if requested on the command line
+        String record = getParameters().getNamed().get("record");
+        if (record != null) {
+            System.setProperty(InputRecorder.PROPERTY, record);
+        }
+        String replay = getParameters().getNamed().get("replay");
+        if (replay != null) {
+            System.setProperty(InputReplay.PROPERTY, replay);
+        }
+
+        // Check disposed levels for leaks, if requested on the command line
+        if (getParameters().getUnnamed().contains("--leak-check")) {
+            System.setProperty(LeakDetector.PROPERTY, "true");
+        }
+
+        // Display the splash page, which opens the menu once the images are decoded,
+        // and run the training session from the menu if requested on the command line
+        SplashPage splashPage = getParameters().getUnnamed().contains("--training")
+                ? new SplashPage(stage, () -> new StartupTraining(stage).run())
+                : new SplashPage(stage);
+        splashPage.show();
 
         // Handle clean exit of the game
         stage.setOnCloseRequest(event -> {
@@ -49,11 +103,12 @@ public class Main extends Application {
      * The main method is the entry point of the application.
      * It launches the JavaFX application.
      * 
-     * @param args Command line arguments (if needed).
+     * @param args Command line arguments, such as {@code --renderer=canvas}, {@code --record=session.journal}
+     *             or {@code --training}.
      */
     public static void main(String[] args) {
         // Suggested JVM arguments for memory tuning (optional):
         // -Xms256m -Xmx512m
-        launch();
+        launch(args);
     }
 }
@@ -1,8 +1,8 @@
 package com.example.demo.controller;
 
+import com.example.demo.AssetCache;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -18,9 +18,9 @@ import javafx.stage.Stage;
 public class MenuPage {
 
     // Constants for screen size and background image
-    private static final String BACKGROUND_IMAGE = "/com/example/demo/images/menu-background.jpg"; // Corrected image path
-    private static final double SCREEN_WIDTH = 1300;
-    private static final double SCREEN_HEIGHT = 750;
+    static final String BACKGROUND_IMAGE = "/com/example/demo/images/menu-background.jpg"; // Corrected image path
+    static final double SCREEN_WIDTH = 1300;
+    static final double SCREEN_HEIGHT = 750;
 
     // Stage for the game window
     private final Stage stage;
@@ -70,7 +70,7 @@ public class MenuPage {
      * @return The ImageView with the background image.
      */
     private ImageView createBackgroundImage() {
-        ImageView background = new ImageView(new Image(getClass().getResource(BACKGROUND_IMAGE).toExternalForm()));
+        ImageView background = new ImageView(AssetCache.getImage(BACKGROUND_IMAGE, SCREEN_WIDTH, SCREEN_HEIGHT, false));
         background.setFitWidth(SCREEN_WIDTH);
         background.setFitHeight(SCREEN_HEIGHT);
         return background;
@@ -0,0 +1,118 @@
+package com.example.demo.controller;
+
+import com.example.demo.AssetPreloader;
+import com.example.demo.StartupMetrics;
+import java.util.List;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+
+/**
+ * The SplashPage class is shown while the game's images are decoded at startup.
+ * It shows the title and a progress bar, and opens the main menu once every image is ready,
+ * so that no menu or level has to read or decode an image while it is being played.
+ * <p>
+ * The images are decoded in parallel by an {@link AssetPreloader}, and the time each one took is
+ * printed once they are all done. The splash is the first scene of every launch, so it also logs
+ * the time from the start of the JVM to its first frame, and to the main menu, see {@link StartupMetrics}.
+ * </p>
+ */
+public class SplashPage {
+
+    // Stage for the game window
+    private final Stage stage;
+
+    // Runs once the main menu is on screen
+    private final Runnable onMenuShown;
+
+    // Progress display
+    private final ProgressBar progressBar = new ProgressBar(0);
+    private final Text progressText = new Text();
+
+    /**
+     * Constructs a SplashPage with the given stage.
+     *
+     * @param stage The primary stage for the game window.
+     */
+    public SplashPage(Stage stage) {
+        this(stage, () -> { });
+    }
+
+    /**
+     * Constructs a SplashPage with the given stage and an action to run once the main menu is shown.
+     *
+     * @param stage The primary stage for the game window.
+     * @param onMenuShown The action run on the JavaFX Application Thread once the main menu is on screen.
+     */
+    public SplashPage(Stage stage, Runnable onMenuShown) {
+        this.stage = stage;
+        this.onMenuShown = onMenuShown;
+    }
+
+    /**
+     * Displays the splash scene and starts decoding every image the game draws.
+     * The main menu is shown once they have all been decoded, whether or not any failed.
+     */
+    public void show() {
+        // Everything the levels draw, at the size of the game window, plus the menu background
+        AssetPreloader preloader = AssetPreloader.forGame(stage.getWidth(), stage.getHeight());
+        preloader.addImage(MenuPage.BACKGROUND_IMAGE, MenuPage.SCREEN_WIDTH, MenuPage.SCREEN_HEIGHT, false);
+        int assetCount = preloader.getAssetCount();
+
+        // Title and progress setup
+        Text title = new Text("SKY BATTLE");
+        title.setFont(Font.font("Arial", 50));
+        title.setStyle("-fx-fill: white;");
+        progressBar.setPrefWidth(400);
+        progressText.setFont(Font.font("Arial", 16));
+        progressText.setStyle("-fx-fill: white;");
+        showProgress(0, assetCount);
+
+        // Layout configuration
+        VBox layout = new VBox(20, title, progressBar, progressText);
+        layout.setStyle("-fx-alignment: center;");
+        StackPane root = new StackPane(layout);
+        root.setStyle("-fx-background-color: black;");
+
+        // Set the scene and display the splash, logging when its first frame is drawn
+        Scene splashScene = new Scene(root, MenuPage.SCREEN_WIDTH, MenuPage.SCREEN_HEIGHT);
+        StartupMetrics.logFirstFrame(splashScene);
+        stage.setScene(splashScene);
+        stage.show();
+
+        // Decode every image in parallel, then report the timings and open the menu
+        long startNanos = System.nanoTime();
+        preloader.start(finished -> Platform.runLater(() -> showProgress(finished, assetCount)))
+                .thenAccept(timings -> Platform.runLater(() -> finish(timings, System.nanoTime() - startNanos)));
+    }
+
+    /**
+     * Updates the progress bar and text.
+     *
+     * @param finished The number of images decoded so far.
+     * @param total The number of images to decode.
+     */
+    private void showProgress(int finished, int total) {
+        progressBar.setProgress(total == 0 ? 1 : (double) finished / total);
+        progressText.setText("Loading assets " + finished + "/" + total);
+    }
+
+    /**
+     * Prints the time each image took to decode, displays the main menu and runs the menu action.
+     *
+     * @param timings The time taken by each image.
+     * @param wallNanos The time taken to decode them all.
+     */
+    private void finish(List<AssetPreloader.AssetTiming> timings, long wallNanos) {
+        System.out.print(AssetPreloader.report(timings, wallNanos));
+        MenuPage menuPage = new MenuPage(stage);
+        menuPage.show();
+        System.out.printf("Main menu shown %d ms after JVM start%n", StartupMetrics.getMillisSinceJvmStart());
+        onMenuShown.run();
+    }
+}
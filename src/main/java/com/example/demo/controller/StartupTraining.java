@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import com.example.demo.GameRandom;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelRegistry;
+import com.example.demo.StartupMetrics;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+/**
+ * The StartupTraining class runs the game's class-data-sharing training session, started with the
+ * {@code --training} argument once the main menu is on screen.
+ * <p>
+ * It opens every menu page, then builds the scene graph of every level without showing it and
+ * plays the level headless for a few seconds of game time, and exits. The launcher scripts run
+ * the session with {@code -XX:ArchiveClassesAtExit}, so the JVM writes every class it loaded to
+ * an AppCDS archive that later launches map instead of loading and verifying the classes again.
+ * </p>
+ */
+public class StartupTraining {
+
+    private static final int TRAINING_TICKS = 100; // 5 seconds of game time at 50 ms per tick
+
+    // Stage for the game window
+    private final Stage stage;
+
+    /**
+     * Constructs a StartupTraining session for the given stage.
+     *
+     * @param stage The primary stage for the game window.
+     */
+    public StartupTraining(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Runs the training session and exits the application. Must be called on the JavaFX Application Thread.
+     */
+    public void run() {
+        long startMillis = StartupMetrics.getMillisSinceJvmStart();
+
+        // Open every page of the menu, ending back on the main menu
+        new LevelSelectionPage(stage).show();
+        new KeyBindingPage(stage).show();
+        new MenuPage(stage).show();
+
+        // Play every level headless, with a bot so that shots, hits and kills all happen
+        long seed = GameRandom.defaultSeed();
+        for (String levelName : LevelRegistry.getLevelNames()) {
+            trainLevel(levelName, seed);
+        }
+
+        System.out.printf("Training finished in %d ms (%s)%n",
+                StartupMetrics.getMillisSinceJvmStart() - startMillis, StartupMetrics.describeClassDataSharing());
+        Platform.exit();
+    }
+
+    /**
+     * Builds a level's scene graph and plays it headless for the training period, or until it ends,
+     * then disposes of it.
+     *
+     * @param levelName The fully qualified class name of the level.
+     * @param seed The seed of the level's random number generator.
+     */
+    private void trainLevel(String levelName, long seed) {
+        LevelParent level = LevelRegistry.create(levelName, stage.getHeight(), stage.getWidth(), null, seed);
+        level.initializeRoot();
+        BotPlayer bot = BotStrategy.TRACKER.create(GameRandom.create(seed));
+        for (int tick = 0; tick < TRAINING_TICKS && !level.isFinished(); tick++) {
+            bot.act(level);
+            level.updateScene();
+        }
+        level.dispose();
+    }
+}
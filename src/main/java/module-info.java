@@ -26,6 +26,25 @@ module com.example.demo {
      */
     requires transitive javafx.graphics;
 
+    /**
+     * Requires the java.desktop module for ImageIO, which reads sprite dimensions without the JavaFX toolkit
+     * so that levels can run headless.
+     */
+    requires java.desktop;
+
+    /**
+     * Requires the java.management and jdk.management modules, which report garbage collections and the
+     * bytes allocated per simulation step to the tick profiler.
+     */
+    requires java.management;
+    requires jdk.management;
+
+    /**
+     * Requires the jdk.jfr module, which records game ticks, actor lifecycles, collision batches and level
+     * transitions as Flight Recorder events.
+     */
+    requires transitive jdk.jfr;
+
     /**
      * Opens the com.example.demo package to javafx.fxml to allow FXML-based controller access.
      */
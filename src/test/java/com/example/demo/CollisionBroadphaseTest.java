@@ -0,0 +1,143 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the culling broadphases find every pair the {@link NestedLoopBroadphase} reference
+ * finds whose boxes overlap during a step, on a seeded layout of user projectiles and enemy planes
+ * that moves, loses actors and gains new ones from step to step. Pairs are compared by their swept
+ * boxes, so a broadphase that only placed actors where they end the step would miss projectiles
+ * that pass through an enemy.
+ */
+class CollisionBroadphaseTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double OFFSCREEN_MARGIN = 200;
+    private static final long SEED = 42;
+    private static final int PROJECTILE_COUNT = 300;
+    private static final int ENEMY_COUNT = 60;
+    private static final int STEPS = 20;
+    private static final double REPLACED_FRACTION = 0.1;
+
+    /**
+     * Checks the spatial hash against the nested loop.
+     */
+    @Test
+    void spatialHashReportsSameOverlappingPairsAsNestedLoop() {
+        assertSameOverlappingPairs(BroadphaseType.SPATIAL_HASH.create(SCREEN_WIDTH, SCREEN_HEIGHT));
+    }
+
+    /**
+     * Checks sweep and prune against the nested loop. The same instance runs every step, so the
+     * order it carries over is repaired after actors move, leave and join.
+     */
+    @Test
+    void sweepAndPruneReportsSameOverlappingPairsAsNestedLoop() {
+        assertSameOverlappingPairs(BroadphaseType.SWEEP_AND_PRUNE.create(SCREEN_WIDTH, SCREEN_HEIGHT));
+    }
+
+    /**
+     * Steps the seeded layout and checks, after every step, that the given broadphase reports every
+     * overlapping pair the nested loop reports. The nested loop reports every pair there is, so the
+     * two then agree; candidate pairs that do not overlap are left out, since a broadphase may report them or not.
+     *
+     * @param broadphase the broadphase under test
+     */
+    private static void assertSameOverlappingPairs(CollisionBroadphase broadphase) {
+        RandomGenerator random = new SplittableRandom(SEED);
+        EntityStore projectiles = new EntityStore(true);
+        EntityStore enemies = new EntityStore(false);
+        addProjectiles(random, projectiles, PROJECTILE_COUNT);
+        addEnemies(random, enemies, ENEMY_COUNT);
+
+        CollisionBroadphase reference = new NestedLoopBroadphase();
+        int overlappingPairs = 0;
+        for (int step = 0; step < STEPS; step++) {
+            projectiles.savePreviousPositions();
+            projectiles.integrate();
+            enemies.savePreviousPositions();
+            enemies.integrate();
+
+            Set<Long> expected = findOverlappingPairs(reference, projectiles, enemies);
+            Set<Long> missed = new HashSet<>(expected);
+            missed.removeAll(findOverlappingPairs(broadphase, projectiles, enemies));
+            int failedStep = step;
+            assertTrue(missed.isEmpty(), () -> broadphase.getClass().getSimpleName() + " missed " + missed.size()
+                    + " of " + expected.size() + " overlapping pairs at step " + failedStep);
+            overlappingPairs += expected.size();
+
+            addProjectiles(random, projectiles, destroySome(random, projectiles));
+            addEnemies(random, enemies, destroySome(random, enemies));
+        }
+        assertFalse(overlappingPairs == 0, "the layout should hold overlapping pairs");
+    }
+
+    /**
+     * Runs a broadphase and keeps the candidate pairs that overlap at some point during the step,
+     * checking that no pair is reported twice. Each pair is packed into a {@code long}, the first slot in the high half.
+     *
+     * @param broadphase the broadphase to run
+     * @param first the first store
+     * @param second the second store
+     * @return the overlapping pairs
+     */
+    private static Set<Long> findOverlappingPairs(CollisionBroadphase broadphase, EntityStore first,
+            EntityStore second) {
+        Set<Long> candidates = new HashSet<>();
+        Set<Long> overlapping = new HashSet<>();
+        broadphase.findCandidatePairs(first, second, (a, firstSlot, b, secondSlot) -> {
+            long pair = (long) firstSlot << 32 | secondSlot;
+            assertTrue(candidates.add(pair), "a candidate pair was reported twice");
+            if (a.sweptOverlaps(firstSlot, b, secondSlot)) {
+                overlapping.add(pair);
+            }
+        });
+        return overlapping;
+    }
+
+    /**
+     * Destroys a share of the actors at random and removes them, so the slots of the rest shift.
+     *
+     * @param random the layout's generator
+     * @param actors the store
+     * @return the number of actors removed
+     */
+    private static int destroySome(RandomGenerator random, EntityStore actors) {
+        int before = actors.size();
+        for (int slot = 0; slot < before; slot++) {
+            if (random.nextDouble() < REPLACED_FRACTION) {
+                actors.get(slot).destroy();
+            }
+        }
+        actors.removeDestroyed(actor -> { });
+        return before - actors.size();
+    }
+
+    private static void addProjectiles(RandomGenerator random, EntityStore projectiles, int count) {
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new UserProjectile(randomX(random), randomY(random)));
+        }
+    }
+
+    private static void addEnemies(RandomGenerator random, EntityStore enemies, int count) {
+        for (int i = 0; i < count; i++) {
+            enemies.add(new EnemyPlane(randomX(random), randomY(random), 1.0));
+        }
+    }
+
+    private static double randomX(RandomGenerator random) {
+        return random.nextDouble(-OFFSCREEN_MARGIN, SCREEN_WIDTH + OFFSCREEN_MARGIN);
+    }
+
+    private static double randomY(RandomGenerator random) {
+        return random.nextDouble(-OFFSCREEN_MARGIN, SCREEN_HEIGHT + OFFSCREEN_MARGIN);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link CollisionMask#overlaps}, which compares packed rows a word at a time, agrees
+ * with a pixel-by-pixel comparison of the same masks at seeded random offsets.
+ */
+class CollisionMaskTest {
+
+    private static final long SEED = 42;
+    private static final int OFFSETS_PER_PAIR = 20_000;
+
+    /**
+     * Compares the player's plane with an enemy plane, both wider than one 64-bit word.
+     */
+    @Test
+    void planeMasksOverlapExactlyWhereTheirPixelsDo() {
+        assertMatchesPixelComparison(
+                sprite(UserPlane.IMAGE_NAME, UserPlane.IMAGE_HEIGHT),
+                sprite(EnemyPlane.DEFAULT_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT));
+    }
+
+    /**
+     * Compares the player's thin projectile with an enemy plane.
+     */
+    @Test
+    void projectileMaskOverlapsEnemyExactlyWhereTheirPixelsDo() {
+        assertMatchesPixelComparison(
+                sprite(UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT),
+                sprite(EnemyPlane.DEFAULT_IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT));
+    }
+
+    /**
+     * Compares the boss, several words wide, with the fireballs it fires.
+     */
+    @Test
+    void bossMaskOverlapsFireballExactlyWhereTheirPixelsDo() {
+        assertMatchesPixelComparison(
+                sprite(Boss.IMAGE_NAME, Boss.IMAGE_HEIGHT),
+                sprite(BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT));
+    }
+
+    /**
+     * Places the second mask at random offsets that range from clear of the first on every side to
+     * fully inside it, and checks the mask test against the pixels at each one. Both answers must
+     * occur, and some offsets must overlap the bounding boxes but not the pixels, or the masks
+     * would not be tested any better than their boxes.
+     *
+     * @param first the mask placed at the origin
+     * @param second the mask placed at each offset
+     */
+    private static void assertMatchesPixelComparison(CollisionMask first, CollisionMask second) {
+        RandomGenerator random = new SplittableRandom(SEED);
+        int overlapping = 0;
+        int boxesOnly = 0;
+        for (int i = 0; i < OFFSETS_PER_PAIR; i++) {
+            int offsetX = random.nextInt(-second.getWidth() - 1, first.getWidth() + 2);
+            int offsetY = random.nextInt(-second.getHeight() - 1, first.getHeight() + 2);
+            boolean expected = pixelsOverlap(first, second, offsetX, offsetY);
+            assertEquals(expected, first.overlaps(second, offsetX, offsetY),
+                    "overlap at offset (" + offsetX + ", " + offsetY + ")");
+            if (expected) {
+                overlapping++;
+            } else if (boxesOverlap(first, second, offsetX, offsetY)) {
+                boxesOnly++;
+            }
+        }
+        assertTrue(overlapping > 0, "some offsets should overlap");
+        assertTrue(boxesOnly > 0, "some offsets should overlap only the bounding boxes");
+    }
+
+    /**
+     * Returns whether two masks share a solid pixel, testing every pixel of the first that the
+     * second covers.
+     *
+     * @param first the mask placed at the origin
+     * @param second the mask placed at the offset
+     * @param offsetX the second mask's left edge minus the first's
+     * @param offsetY the second mask's top edge minus the first's
+     * @return {@code true} if the masks overlap
+     */
+    private static boolean pixelsOverlap(CollisionMask first, CollisionMask second, int offsetX, int offsetY) {
+        int lastY = Math.min(first.getHeight(), offsetY + second.getHeight());
+        int lastX = Math.min(first.getWidth(), offsetX + second.getWidth());
+        for (int y = Math.max(0, offsetY); y < lastY; y++) {
+            for (int x = Math.max(0, offsetX); x < lastX; x++) {
+                if (first.isSolid(x, y) && second.isSolid(x - offsetX, y - offsetY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean boxesOverlap(CollisionMask first, CollisionMask second, int offsetX, int offsetY) {
+        return offsetX < first.getWidth() && offsetX + second.getWidth() > 0
+                && offsetY < first.getHeight() && offsetY + second.getHeight() > 0;
+    }
+
+    private static CollisionMask sprite(String imageName, double height) {
+        return CollisionMask.forSprite(AssetCache.IMAGE_DIRECTORY + imageName, height);
+    }
+}
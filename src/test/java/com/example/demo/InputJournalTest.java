@@ -0,0 +1,144 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a headless session recorded by {@link InputRecorder} is reproduced step for step by
+ * {@link InputReplay}, including across the transition from one level to the next.
+ */
+class InputJournalTest {
+
+    private static final String FIRST_LEVEL = "com.example.demo.LevelOne";
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final long SEARCH_SEED = 1;
+    private static final int MAX_SEARCHED_GAMES = 2_000;
+    private static final long MAX_TICKS = 5_000;
+    private static final double STEERING_CHANGE_PROBABILITY = 0.1;
+    private static final PlayerCommand[] DIRECTIONS = {
+            PlayerCommand.MOVE_UP, PlayerCommand.MOVE_DOWN, PlayerCommand.STOP_VERTICAL};
+
+    /**
+     * How a session ended.
+     *
+     * @param lastLevelName the class name of the last level played
+     * @param outcome how the last level ended
+     * @param ticks the number of simulation steps run across all levels
+     * @param kills the number of kills made across all levels
+     * @param health the player's health at the end of the last level
+     */
+    private record Session(String lastLevelName, LevelOutcome outcome, long ticks, int kills, int health) {
+    }
+
+    /**
+     * Records a game that gets past the first level and replays it, which must match every
+     * recorded state hash and end exactly as the recorded game did.
+     *
+     * @throws IOException if the journal cannot be read back
+     * @throws ReflectiveOperationException if a level cannot be created
+     */
+    @Test
+    void replaysMultiLevelSessionWithoutDivergence() throws IOException, ReflectiveOperationException {
+        long seed = findMultiLevelGame();
+
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        Session recorded;
+        try (InputRecorder recorder = new InputRecorder(journal)) {
+            recorded = play(seed, recorder, null);
+        }
+        assertNotEquals(FIRST_LEVEL, recorded.lastLevelName(), "the recorded game should reach a second level");
+
+        InputReplay replay = new InputReplay(new ByteArrayInputStream(journal.toByteArray()));
+        assertEquals(FIRST_LEVEL, replay.getFirstLevelName());
+        assertEquals(seed, replay.getFirstSeed());
+        Session replayed = play(replay.getFirstSeed(), null, replay);
+
+        assertNull(replay.getDivergence(), () -> "replay diverged: " + replay.getDivergence());
+        assertEquals(replay.getLevelCount(), replay.getReplayedLevelCount(), "levels replayed");
+        assertEquals(recorded, replayed);
+    }
+
+    /**
+     * Plays seeded games until one advances past the first level.
+     *
+     * @return the seed of the first such game
+     * @throws ReflectiveOperationException if a level cannot be created
+     */
+    private static long findMultiLevelGame() throws ReflectiveOperationException {
+        SplittableGenerator seeds = GameRandom.create(SEARCH_SEED);
+        for (int game = 0; game < MAX_SEARCHED_GAMES; game++) {
+            long seed = seeds.nextLong();
+            if (!play(seed, null, null).lastLevelName().equals(FIRST_LEVEL)) {
+                return seed;
+            }
+        }
+        return fail("no game out of " + MAX_SEARCHED_GAMES + " got past the first level");
+    }
+
+    /**
+     * Plays one headless game from the first level, moving on whenever a level is completed, as
+     * the headless runner does. Unless the game is replayed, the player is steered up and down at
+     * random, from a generator seeded with the game's seed, so the journal holds commands.
+     *
+     * @param seed the seed of the first level
+     * @param recorder the journal to record to, or {@code null}
+     * @param replay the journal to replay, or {@code null}
+     * @return how the game ended
+     * @throws ReflectiveOperationException if a level cannot be created
+     */
+    private static Session play(long seed, InputRecorder recorder, InputReplay replay) throws ReflectiveOperationException {
+        RandomGenerator steering = GameRandom.create(seed);
+        String levelName = FIRST_LEVEL;
+        long levelSeed = seed;
+        long ticks = 0;
+        int kills = 0;
+        while (true) {
+            LevelParent level = createLevel(levelName, levelSeed);
+            if (recorder != null) {
+                level.setInputRecorder(recorder);
+            }
+            if (replay != null) {
+                level.setInputReplay(replay);
+            }
+            while (!level.isFinished() && ticks < MAX_TICKS
+                    && (replay == null || replay.hasRemainingInput(level.getTickCount()))) {
+                if (replay == null && steering.nextDouble() < STEERING_CHANGE_PROBABILITY) {
+                    level.submitCommand(DIRECTIONS[steering.nextInt(DIRECTIONS.length)]);
+                }
+                level.updateScene();
+                ticks++;
+            }
+            kills += level.getUser().getTotalKills();
+            if (level.getOutcome() != LevelOutcome.ADVANCED || level.getNextLevelName() == null) {
+                return new Session(levelName, level.getOutcome(), ticks, kills, level.getUser().getHealth());
+            }
+            levelName = level.getNextLevelName();
+            levelSeed = level.getNextLevelSeed();
+        }
+    }
+
+    /**
+     * Instantiates a level by class name without a stage, so it runs headless.
+     *
+     * @param className the fully qualified class name of the level
+     * @param seed the seed of the level's random number generator
+     * @return the new level
+     * @throws ReflectiveOperationException if the level cannot be created
+     */
+    private static LevelParent createLevel(String className, long seed) throws ReflectiveOperationException {
+        return (LevelParent) Class.forName(className)
+                .getConstructor(double.class, double.class, Stage.class, long.class)
+                .newInstance(SCREEN_HEIGHT, SCREEN_WIDTH, null, seed);
+    }
+}